@@ -0,0 +1,157 @@
+package com.example.cokothon.config;
+
+import com.example.cokothon.service.AccessTokenService;
+import com.example.cokothon.service.AccessTokenService.AccessToken;
+import com.example.cokothon.service.AuthService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+// 토큰 인증 모드 (auth.token.enabled=true)
+// 모든 요청의 HttpSession을 요청 동안만 존재하는 임시 세션으로 바꾼다. 서버 세션은 만들어지지 않는다.
+// Authorization: Bearer 토큰이 유효하면 임시 세션에 로그인 정보를 넣어 두므로
+// 컨트롤러와 AuthService는 세션 모드와 같은 코드로 로그인 사용자 / 관리자 여부를 확인한다.
+// 임시 세션을 무효화(로그아웃)하면 해당 토큰을 폐기한다.
+@Component
+@ConditionalOnProperty(name = "auth.token.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class AccessTokenFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final AccessTokenService accessTokenService;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        AccessToken token = null;
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            token = accessTokenService.verify(header.substring(BEARER_PREFIX.length()).trim()).orElse(null);
+        }
+        chain.doFilter(new TokenSessionRequest(request, new TokenSession(request.getServletContext(), token)), response);
+    }
+
+    private static final class TokenSessionRequest extends HttpServletRequestWrapper {
+        private final TokenSession session;
+
+        private TokenSessionRequest(HttpServletRequest request, TokenSession session) {
+            super(request);
+            this.session = session;
+        }
+
+        @Override
+        public HttpSession getSession(boolean create) {
+            return session;
+        }
+
+        @Override
+        public HttpSession getSession() {
+            return session;
+        }
+
+        @Override
+        public String changeSessionId() {
+            return session.getId();
+        }
+
+        @Override
+        public boolean isRequestedSessionIdValid() {
+            return false;
+        }
+    }
+
+    private final class TokenSession implements HttpSession {
+        private final String id = UUID.randomUUID().toString();
+        private final long creationTime = System.currentTimeMillis();
+        private final ServletContext servletContext;
+        private final AccessToken token;
+        private final Map<String, Object> attributes = new HashMap<>();
+
+        private TokenSession(ServletContext servletContext, AccessToken token) {
+            this.servletContext = servletContext;
+            this.token = token;
+            if (token != null) {
+                attributes.put(AuthService.SESSION_USER_KEY, token.principal());
+            }
+        }
+
+        @Override
+        public void invalidate() {
+            if (token != null) {
+                accessTokenService.revoke(token);
+            }
+            attributes.clear();
+        }
+
+        @Override
+        public Object getAttribute(String name) {
+            return attributes.get(name);
+        }
+
+        @Override
+        public Enumeration<String> getAttributeNames() {
+            return Collections.enumeration(attributes.keySet());
+        }
+
+        @Override
+        public void setAttribute(String name, Object value) {
+            attributes.put(name, value);
+        }
+
+        @Override
+        public void removeAttribute(String name) {
+            attributes.remove(name);
+        }
+
+        @Override
+        public long getCreationTime() {
+            return creationTime;
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public long getLastAccessedTime() {
+            return creationTime;
+        }
+
+        @Override
+        public ServletContext getServletContext() {
+            return servletContext;
+        }
+
+        @Override
+        public void setMaxInactiveInterval(int interval) {
+        }
+
+        @Override
+        public int getMaxInactiveInterval() {
+            return 0;
+        }
+
+        @Override
+        public boolean isNew() {
+            return true;
+        }
+    }
+}
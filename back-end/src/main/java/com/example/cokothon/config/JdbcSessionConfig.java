@@ -0,0 +1,55 @@
+package com.example.cokothon.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.session.jdbc.config.annotation.SpringSessionDataSource;
+import org.springframework.session.jdbc.config.annotation.SpringSessionTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import jakarta.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+
+// HttpSession 저장소 - 별도 H2 파일 DB (auth.session.store=jdbc)
+// 여러 서버가 같은 세션 테이블을 공유하므로 고정 세션 없이 어느 서버로 요청이 가도 된다.
+// 세션 테이블 생성과 만료 세션 정리는 Spring Session JDBC 자동 설정이 이 DataSource로 수행한다.
+@Configuration
+@ConditionalOnProperty(name = "auth.session.store", havingValue = "jdbc")
+public class JdbcSessionConfig {
+
+    // 세션용 DataSource를 추가하면 기본 DataSource 자동 설정이 빠지므로 직접 등록
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().build();
+    }
+
+    // 세션용 트랜잭션 매니저를 추가하면 JPA 트랜잭션 매니저 자동 설정이 빠지므로 직접 등록
+    @Bean
+    @Primary
+    public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+
+    @Bean
+    @SpringSessionDataSource
+    public DataSource sessionDataSource(@Value("${auth.session.jdbc.url}") String url) {
+        return DataSourceBuilder.create()
+                .url(url)
+                .username("sa")
+                .password("")
+                .build();
+    }
+
+    @Bean
+    @SpringSessionTransactionManager
+    public PlatformTransactionManager sessionTransactionManager(@SpringSessionDataSource DataSource sessionDataSource) {
+        return new DataSourceTransactionManager(sessionDataSource);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.cokothon.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.session.MapSession;
+import org.springframework.session.MapSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.config.annotation.web.http.EnableSpringHttpSession;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// HttpSession 저장소 - 서버 메모리 (auth.session.store=memory, 기본값)
+// 조회되지 않은 채 만료된 세션도 주기적으로 제거한다.
+@Configuration
+@ConditionalOnProperty(name = "auth.session.store", havingValue = "memory", matchIfMissing = true)
+@EnableSpringHttpSession
+public class MemorySessionConfig {
+
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+
+    @Bean
+    public MapSessionRepository sessionRepository(
+            @Value("${server.servlet.session.timeout:30m}") Duration timeout) {
+        MapSessionRepository repository = new MapSessionRepository(sessions);
+        repository.setDefaultMaxInactiveInterval(timeout);
+        return repository;
+    }
+
+    @Scheduled(fixedDelayString = "${auth.session.cleanup-interval-ms:60000}")
+    public void removeExpiredSessions() {
+        sessions.values().removeIf(session -> ((MapSession) session).isExpired());
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.cokothon.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// 요청이 끝날 때까지 EntityManager를 열어 두는 설정 (spring.jpa.open-in-view=false로 끄고 직접 등록)
+// 열어 둔 EntityManager는 처음 잡은 DB 연결을 요청이 끝날 때까지 놓지 않으므로,
+// 느린 클라이언트에 오래 출력하는 내보내기 요청은 제외하고 배치마다 짧은 트랜잭션으로 읽게 한다.
+@Configuration
+@RequiredArgsConstructor
+public class OpenEntityManagerInViewConfig implements WebMvcConfigurer {
+
+    private static final String[] STREAMING_EXPORT_PATHS = {
+            "/api/family-survey/admin/export",
+            "/api/boards/category/*/export"
+    };
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        OpenEntityManagerInViewInterceptor interceptor = new OpenEntityManagerInViewInterceptor();
+        interceptor.setEntityManagerFactory(entityManagerFactory);
+        registry.addWebRequestInterceptor(interceptor)
+                .excludePathPatterns(STREAMING_EXPORT_PATHS);
+    }
+}
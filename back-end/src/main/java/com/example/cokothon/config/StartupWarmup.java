@@ -0,0 +1,51 @@
+package com.example.cokothon.config;
+
+import com.example.cokothon.service.StartupRebuildEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+// 웹 서버가 요청을 받기 전에 초기 데이터를 넣고 메모리 색인/스냅샷을 구성한다
+// ApplicationReadyEvent 시점에는 이미 요청을 받고 있어, 구성이 끝날 때까지 카테고리를 찾지 못하거나
+// 검색/자동완성이 비어 있거나 통계가 0건으로 나갈 수 있다.
+// 이 lifecycle은 웹 서버(DEFAULT_PHASE - 2048)보다 앞 단계에서 시작하므로 구성이 끝난 뒤에 포트가 열린다.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StartupWarmup implements SmartLifecycle {
+
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final DataInitializer dataInitializer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        long startedAt = System.nanoTime();
+        dataInitializer.initialize();
+        eventPublisher.publishEvent(new StartupRebuildEvent());
+        running = true;
+        log.info("시작 준비 완료 ({}ms)", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.cokothon.controller;
+
+import com.example.cokothon.dto.ApiResponse;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+
+import java.util.Arrays;
+import java.util.List;
+
+// 컨트롤러 메서드 실행 전(요청 값을 읽는 단계)에 거절된 요청도 다른 400 응답과 같이 ApiResponse로 응답한다
+// 예: 목록에 없는 열거형 값(경로 변수 / 요청 파라미터 / 요청 본문), @Valid 검사 실패
+@RestControllerAdvice
+public class ApiExceptionHandler {
+
+    // 경로 변수 / 요청 파라미터 형식 오류 (예: /admin/by-relationship/NOPE, /admin/trends?axis=NOPE)
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ApiResponse<Void>> handleTypeMismatch(MethodArgumentTypeMismatchException e) {
+        return ResponseEntity.badRequest()
+                .body(ApiResponse.error(invalidValue(e.getName(), e.getValue(), e.getRequiredType())));
+    }
+
+    // 요청 본문 형식 오류 (예: 목록에 없는 애도 단계)
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ApiResponse<Void>> handleUnreadableBody(HttpMessageNotReadableException e) {
+        if (e.getCause() instanceof InvalidFormatException invalid && !invalid.getPath().isEmpty()) {
+            List<JsonMappingException.Reference> path = invalid.getPath();
+            String field = path.get(path.size() - 1).getFieldName();
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(invalidValue(field, invalid.getValue(), invalid.getTargetType())));
+        }
+        return ResponseEntity.badRequest()
+                .body(ApiResponse.error("요청 본문을 읽을 수 없습니다."));
+    }
+
+    // @Valid 검사 실패 (첫 번째 항목의 메시지)
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ApiResponse<Void>> handleInvalidArgument(MethodArgumentNotValidException e) {
+        FieldError error = e.getBindingResult().getFieldError();
+        String message = error != null ? error.getDefaultMessage() : "요청 값이 올바르지 않습니다.";
+        return ResponseEntity.badRequest()
+                .body(ApiResponse.error(message));
+    }
+
+    // 열거형이면 허용 값도 알려준다
+    private static String invalidValue(String name, Object value, Class<?> type) {
+        String message = "잘못된 값입니다: " + name + "=" + value;
+        if (type != null && type.isEnum()) {
+            message += " (허용 값: " + Arrays.toString(type.getEnumConstants()) + ")";
+        }
+        return message;
+    }
+}
@@ -2,24 +2,41 @@ package com.example.cokothon.controller;
 
 import com.example.cokothon.dto.*;
 import com.example.cokothon.entity.User;
+import com.example.cokothon.service.AccessTokenService;
+import com.example.cokothon.service.AccessTokenService.AccessToken;
 import com.example.cokothon.service.AuthService;
+import com.example.cokothon.service.AuthThrottle;
+import com.example.cokothon.service.SessionPrincipal;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Optional;
+
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
 public class AuthController {
     
     private final AuthService authService;
+    private final AuthThrottle authThrottle;
+    private final AccessTokenService accessTokenService;
     
     // 회원가입
     @PostMapping("/register")
     public ResponseEntity<ApiResponse<UserResponse>> register(
-            @Valid @RequestBody RegisterRequest request) {
+            @Valid @RequestBody RegisterRequest request,
+            HttpServletRequest httpRequest) {
+        
+        long retryAfter = authThrottle.tryAcquire("register", request.getUsername(), httpRequest.getRemoteAddr());
+        if (retryAfter > 0) {
+            return tooManyRequests(retryAfter);
+        }
         
         try {
             User user = authService.register(request);
@@ -35,11 +52,23 @@ public class AuthController {
     @PostMapping("/login")
     public ResponseEntity<ApiResponse<UserResponse>> login(
             @Valid @RequestBody LoginRequest request,
-            HttpSession session) {
+            HttpSession session,
+            HttpServletRequest httpRequest) {
+        
+        long retryAfter = authThrottle.tryAcquire("login", request.getUsername(), httpRequest.getRemoteAddr());
+        if (retryAfter > 0) {
+            return tooManyRequests(retryAfter);
+        }
         
         try {
             User user = authService.login(request, session);
             UserResponse response = UserResponse.from(user);
+            if (accessTokenService.isEnabled()) {
+                // 토큰 모드 - 이후 요청은 Authorization: Bearer 헤더로 인증
+                AccessToken token = accessTokenService.issue(SessionPrincipal.from(user));
+                response.setAccessToken(token.value());
+                response.setAccessTokenExpiresAt(token.expiresAt());
+            }
             return ResponseEntity.ok(ApiResponse.success("로그인이 완료되었습니다.", response));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest()
@@ -47,7 +76,7 @@ public class AuthController {
         }
     }
     
-    // 로그아웃
+    // 로그아웃 (토큰 모드에서는 요청에 사용한 토큰을 폐기)
     @PostMapping("/logout")
     public ResponseEntity<ApiResponse<Void>> logout(HttpSession session) {
         authService.logout(session);
@@ -57,14 +86,14 @@ public class AuthController {
     // 현재 로그인한 사용자 정보 조회
     @GetMapping("/me")
     public ResponseEntity<ApiResponse<UserResponse>> getCurrentUser(HttpSession session) {
-        User user = authService.getCurrentUser(session);
+        Optional<User> user = authService.findCurrentUser(session);
         
-        if (user == null) {
+        if (user.isEmpty()) {
             return ResponseEntity.badRequest()
                     .body(ApiResponse.error("로그인이 필요합니다."));
         }
         
-        UserResponse response = UserResponse.from(user);
+        UserResponse response = UserResponse.from(user.get());
         return ResponseEntity.ok(ApiResponse.success(response));
     }
     
@@ -74,4 +103,11 @@ public class AuthController {
         boolean isLoggedIn = authService.isLoggedIn(session);
         return ResponseEntity.ok(ApiResponse.success(isLoggedIn));
     }
+    
+    // 요청 제한 초과 (DB 조회 없이 바로 응답)
+    private <T> ResponseEntity<ApiResponse<T>> tooManyRequests(long retryAfterSeconds) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(ApiResponse.error("요청이 너무 많습니다. " + retryAfterSeconds + "초 후 다시 시도해 주세요."));
+    }
 }
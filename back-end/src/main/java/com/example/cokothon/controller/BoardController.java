@@ -1,20 +1,37 @@
 package com.example.cokothon.controller;
 
 import com.example.cokothon.dto.ApiResponse;
+import com.example.cokothon.dto.BoardBulkCreateRequest;
 import com.example.cokothon.dto.BoardCreateRequest;
 import com.example.cokothon.dto.BoardResponse;
+import com.example.cokothon.dto.BoardSuggestionResponse;
+import com.example.cokothon.dto.BoardSummaryResponse;
+import com.example.cokothon.dto.CursorSliceResponse;
 import com.example.cokothon.entity.Board;
-import com.example.cokothon.entity.User;
 import com.example.cokothon.service.AuthService;
+import com.example.cokothon.service.BoardCursor;
+import com.example.cokothon.service.BoardExportService;
+import com.example.cokothon.service.BoardLiveFeed;
 import com.example.cokothon.service.BoardService;
+import com.example.cokothon.service.CategoryService;
+import com.example.cokothon.service.SessionPrincipal;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("/api/boards")
@@ -23,38 +40,89 @@ public class BoardController {
     
     private final BoardService boardService;
     private final AuthService authService;
+    private final BoardExportService boardExportService;
+    private final CategoryService categoryService;
+    private final BoardLiveFeed boardLiveFeed;
     
     // 전체 게시글 목록 조회 (페이징)
     @GetMapping
-    public ResponseEntity<ApiResponse<Page<BoardResponse>>> getAllBoards(
+    public ResponseEntity<ApiResponse<Page<BoardSummaryResponse>>> getAllBoards(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) String search) {
         
         Pageable pageable = PageRequest.of(page, size);
-        Page<Board> boards;
+        Page<BoardSummaryResponse> response;
         
         if (search != null && !search.trim().isEmpty()) {
-            boards = boardService.searchBoards(search, pageable);
+            response = boardService.searchBoards(search, pageable);
         } else {
-            boards = boardService.findAllBoards(pageable);
+            response = boardService.findAllBoards(pageable);
         }
         
-        Page<BoardResponse> response = boards.map(BoardResponse::from);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
     
     // 카테고리별 게시글 목록 조회
     @GetMapping("/category/{categoryId}")
-    public ResponseEntity<ApiResponse<Page<BoardResponse>>> getBoardsByCategory(
+    public ResponseEntity<ApiResponse<Page<BoardSummaryResponse>>> getBoardsByCategory(
             @PathVariable Long categoryId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         
         try {
             Pageable pageable = PageRequest.of(page, size);
-            Page<Board> boards = boardService.findBoardsByCategory(categoryId, pageable);
-            Page<BoardResponse> response = boards.map(BoardResponse::from);
+            Page<BoardSummaryResponse> response = boardService.findBoardsByCategory(categoryId, pageable);
+            return ResponseEntity.ok(ApiResponse.success(response));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+    
+    // 전체 게시글 커서 조회 (무한 스크롤용)
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<CursorSliceResponse<BoardSummaryResponse>>> scrollBoards(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        
+        try {
+            Slice<BoardSummaryResponse> boards = boardService.scrollBoards(cursor, size);
+            CursorSliceResponse<BoardSummaryResponse> response =
+                    CursorSliceResponse.from(boards, Function.identity(), BoardCursor::encode);
+            return ResponseEntity.ok(ApiResponse.success(response));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+    
+    // 카테고리별 게시글 커서 조회 (무한 스크롤용)
+    @GetMapping("/category/{categoryId}/scroll")
+    public ResponseEntity<ApiResponse<CursorSliceResponse<BoardSummaryResponse>>> scrollBoardsByCategory(
+            @PathVariable Long categoryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        
+        try {
+            Slice<BoardSummaryResponse> boards = boardService.scrollBoardsByCategory(categoryId, cursor, size);
+            CursorSliceResponse<BoardSummaryResponse> response =
+                    CursorSliceResponse.from(boards, Function.identity(), BoardCursor::encode);
+            return ResponseEntity.ok(ApiResponse.success(response));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+    
+    // 인기 게시글 (categoryId 지정 시 카테고리 내 순위)
+    @GetMapping("/trending")
+    public ResponseEntity<ApiResponse<List<BoardSummaryResponse>>> getTrendingBoards(
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "10") int size) {
+        
+        try {
+            List<BoardSummaryResponse> response = boardService.findTrendingBoards(categoryId, size);
             return ResponseEntity.ok(ApiResponse.success(response));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest()
@@ -62,12 +130,50 @@ public class BoardController {
         }
     }
     
+    // 제목 자동완성 (검색창 입력 중 호출)
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponse<List<BoardSuggestionResponse>>> suggestTitles(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int size) {
+        
+        List<BoardSuggestionResponse> response = boardService.suggestTitles(prefix, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+    
+    // 카테고리별 게시글 실시간 피드 (SSE - created / updated / deleted 이벤트, 주기적 heartbeat)
+    @GetMapping(value = "/category/{categoryId}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribeCategory(@PathVariable Long categoryId) {
+        if (categoryService.findById(categoryId).isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(boardLiveFeed.subscribe(categoryId));
+    }
+    
+    // 카테고리별 게시글 내보내기 (NDJSON, 응답으로 바로 스트리밍)
+    @GetMapping("/category/{categoryId}/export")
+    public void exportBoardsByCategory(
+            @PathVariable Long categoryId,
+            HttpServletResponse response) throws IOException {
+        
+        if (categoryService.findById(categoryId).isEmpty()) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "카테고리를 찾을 수 없습니다.");
+            return;
+        }
+        
+        response.setCharacterEncoding("UTF-8");
+        response.setContentType("application/x-ndjson");
+        response.setHeader("Content-Disposition",
+                "attachment; filename=\"boards-category-" + categoryId + ".ndjson\"");
+        
+        Writer writer = response.getWriter();
+        boardExportService.exportNdjson(categoryId, writer);
+    }
+    
     // 게시글 상세 조회
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<BoardResponse>> getBoardById(@PathVariable Long id) {
         try {
-            Board board = boardService.findByIdWithViewCount(id);
-            BoardResponse response = BoardResponse.from(board);
+            BoardResponse response = boardService.findByIdWithViewCount(id);
             return ResponseEntity.ok(ApiResponse.success(response));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
@@ -81,7 +187,7 @@ public class BoardController {
             HttpSession session) {
         
         try {
-            User currentUser = authService.getCurrentUser(session);
+            SessionPrincipal currentUser = authService.getCurrentUser(session);
             Board board;
             
             if (currentUser != null) {
@@ -104,6 +210,26 @@ public class BoardController {
         }
     }
     
+    // 게시글 일괄 등록 (관리자 전용)
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse<Integer>> createBoards(
+            @Valid @RequestBody BoardBulkCreateRequest request,
+            HttpSession session) {
+        
+        if (!authService.isAdmin(session)) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("관리자 권한이 필요합니다."));
+        }
+        
+        try {
+            int created = boardService.createBoards(request.getBoards());
+            return ResponseEntity.ok(ApiResponse.success("게시글 " + created + "개가 등록되었습니다.", created));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+    
     // 게시글 수정
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<BoardResponse>> updateBoard(
@@ -134,7 +260,7 @@ public class BoardController {
     
     // 검색
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<Page<BoardResponse>>> searchBoards(
+    public ResponseEntity<ApiResponse<Page<BoardSummaryResponse>>> searchBoards(
             @RequestParam String keyword,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
@@ -145,8 +271,7 @@ public class BoardController {
         }
         
         Pageable pageable = PageRequest.of(page, size);
-        Page<Board> boards = boardService.searchBoards(keyword, pageable);
-        Page<BoardResponse> response = boards.map(BoardResponse::from);
+        Page<BoardSummaryResponse> response = boardService.searchBoards(keyword, pageable);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 }
\ No newline at end of file
@@ -9,6 +9,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @RestController
@@ -22,8 +23,9 @@ public class CategoryController {
     @GetMapping
     public ResponseEntity<ApiResponse<List<CategoryResponse>>> getAllCategories() {
         List<Category> categories = categoryService.findAllCategories();
+        Map<Long, Integer> boardCounts = categoryService.findBoardCounts();
         List<CategoryResponse> response = categories.stream()
-                .map(CategoryResponse::from)
+                .map(category -> CategoryResponse.from(category, boardCounts.getOrDefault(category.getId(), 0)))
                 .collect(Collectors.toList());
         return ResponseEntity.ok(ApiResponse.success(response));
     }
@@ -33,7 +35,7 @@ public class CategoryController {
     public ResponseEntity<ApiResponse<CategoryResponse>> getCategoryById(@PathVariable Long id) {
         return categoryService.findById(id)
                 .map(category -> {
-                    CategoryResponse response = CategoryResponse.from(category);
+                    CategoryResponse response = CategoryResponse.from(category, categoryService.getBoardCount(id));
                     return ResponseEntity.ok(ApiResponse.success(response));
                 })
                 .orElse(ResponseEntity.notFound().build());
@@ -2,18 +2,30 @@ package com.example.cokothon.controller;
 
 import com.example.cokothon.dto.*;
 import com.example.cokothon.entity.FamilySurvey;
-import com.example.cokothon.entity.User;
+import com.example.cokothon.entity.RelationshipToDeceased;
 import com.example.cokothon.service.AuthService;
+import com.example.cokothon.service.FamilySurveyExportService;
 import com.example.cokothon.service.FamilySurveyService;
+import com.example.cokothon.service.SessionPrincipal;
+import com.example.cokothon.service.SurveyAutosaveBuffer;
+import com.example.cokothon.service.SurveyCursor;
+import com.example.cokothon.service.SurveyTrendAxis;
+import com.example.cokothon.service.SurveyTrendDimension;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.Writer;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("/api/family-survey")
@@ -22,17 +34,27 @@ public class FamilySurveyController {
     
     private final FamilySurveyService familySurveyService;
     private final AuthService authService;
+    private final FamilySurveyExportService familySurveyExportService;
+    private final SurveyAutosaveBuffer surveyAutosaveBuffer;
     
     // 현재 로그인한 사용자의 설문조사 조회
     @GetMapping("/my-survey")
     public ResponseEntity<ApiResponse<FamilySurveyResponse>> getMySurvey(HttpSession session) {
-        User currentUser = authService.getCurrentUser(session);
+        SessionPrincipal currentUser = authService.getCurrentUser(session);
         if (currentUser == null) {
             return ResponseEntity.badRequest()
                     .body(ApiResponse.error("로그인이 필요합니다."));
         }
         
-        Optional<FamilySurvey> survey = familySurveyService.findSurveyByUser(currentUser);
+        // 대기 중인 자동 저장을 먼저 반영
+        // 실패한 변경은 SurveyAutosaveBuffer가 기록하고 다시 대기열에 넣으므로, 조회는 현재 저장된 값으로 응답한다
+        try {
+            surveyAutosaveBuffer.flush(currentUser.id());
+        } catch (RuntimeException e) {
+            // 현재 저장된 값으로 응답
+        }
+        
+        Optional<FamilySurvey> survey = familySurveyService.findSurveyByUserId(currentUser.id());
         if (survey.isEmpty()) {
             return ResponseEntity.ok(ApiResponse.success("설문조사가 없습니다.", null));
         }
@@ -47,14 +69,16 @@ public class FamilySurveyController {
             @Valid @RequestBody FamilySurveyRequest request,
             HttpSession session) {
         
-        User currentUser = authService.getCurrentUser(session);
+        SessionPrincipal currentUser = authService.getCurrentUser(session);
         if (currentUser == null) {
             return ResponseEntity.badRequest()
                     .body(ApiResponse.error("로그인이 필요합니다."));
         }
         
         try {
-            FamilySurvey survey = familySurveyService.createOrUpdateSurvey(currentUser, request);
+            // 대기 중인 자동 저장을 먼저 반영하고, 제출이 끝날 때까지 같은 사용자의 자동 저장은 기다리게 한다
+            FamilySurvey survey = surveyAutosaveBuffer.flushThen(currentUser.id(),
+                    () -> familySurveyService.createOrUpdateSurvey(authService.getUserReference(currentUser), request));
             FamilySurveyResponse response = FamilySurveyResponse.from(survey);
             
             String message = survey.getSurveyCompleted() 
@@ -68,22 +92,46 @@ public class FamilySurveyController {
         }
     }
     
+    // 설문조사 자동 저장 (바뀐 항목만 전송, 짧은 시간 안의 연속 저장은 한 번에 반영)
+    @PatchMapping("/autosave")
+    public ResponseEntity<ApiResponse<Void>> autosaveSurvey(
+            @RequestBody ObjectNode changes,
+            HttpSession session) {
+        
+        SessionPrincipal currentUser = authService.getCurrentUser(session);
+        if (currentUser == null) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("로그인이 필요합니다."));
+        }
+        
+        try {
+            surveyAutosaveBuffer.submit(currentUser.id(), changes);
+            return ResponseEntity.accepted()
+                    .body(ApiResponse.success("자동 저장되었습니다.", null));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+    
     // 설문조사 완료 여부 확인
     @GetMapping("/completion-status")
     public ResponseEntity<ApiResponse<Boolean>> checkCompletionStatus(HttpSession session) {
-        User currentUser = authService.getCurrentUser(session);
+        SessionPrincipal currentUser = authService.getCurrentUser(session);
         if (currentUser == null) {
             return ResponseEntity.badRequest()
                     .body(ApiResponse.error("로그인이 필요합니다."));
         }
         
-        boolean completed = familySurveyService.hasUserCompletedSurvey(currentUser.getId());
+        boolean completed = familySurveyService.hasUserCompletedSurvey(currentUser.id());
         return ResponseEntity.ok(ApiResponse.success(completed));
     }
     
     // 관리자용 - 전체 설문조사 목록 조회 (완료된 것만)
     @GetMapping("/admin/completed")
-    public ResponseEntity<ApiResponse<List<FamilySurveyResponse>>> getCompletedSurveys(
+    public ResponseEntity<ApiResponse<CursorSliceResponse<FamilySurveySummaryResponse>>> getCompletedSurveys(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
             HttpSession session) {
         
         if (!authService.isAdmin(session)) {
@@ -91,17 +139,20 @@ public class FamilySurveyController {
                     .body(ApiResponse.error("관리자 권한이 필요합니다."));
         }
         
-        List<FamilySurvey> surveys = familySurveyService.getCompletedSurveys();
-        List<FamilySurveyResponse> responses = surveys.stream()
-                .map(FamilySurveyResponse::from)
-                .collect(Collectors.toList());
-        
-        return ResponseEntity.ok(ApiResponse.success(responses));
+        try {
+            Slice<FamilySurveySummaryResponse> surveys = familySurveyService.getCompletedSurveys(cursor, size);
+            return ResponseEntity.ok(ApiResponse.success(toCursorSlice(surveys)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        }
     }
     
     // 관리자용 - 미완료 설문조사 목록 조회
     @GetMapping("/admin/incomplete")
-    public ResponseEntity<ApiResponse<List<FamilySurveyResponse>>> getIncompleteSurveys(
+    public ResponseEntity<ApiResponse<CursorSliceResponse<FamilySurveySummaryResponse>>> getIncompleteSurveys(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
             HttpSession session) {
         
         if (!authService.isAdmin(session)) {
@@ -109,17 +160,20 @@ public class FamilySurveyController {
                     .body(ApiResponse.error("관리자 권한이 필요합니다."));
         }
         
-        List<FamilySurvey> surveys = familySurveyService.getIncompleteSurveys();
-        List<FamilySurveyResponse> responses = surveys.stream()
-                .map(FamilySurveyResponse::from)
-                .collect(Collectors.toList());
-        
-        return ResponseEntity.ok(ApiResponse.success(responses));
+        try {
+            Slice<FamilySurveySummaryResponse> surveys = familySurveyService.getIncompleteSurveys(cursor, size);
+            return ResponseEntity.ok(ApiResponse.success(toCursorSlice(surveys)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        }
     }
     
     // 관리자용 - 모임 참석 희망자 조회
     @GetMapping("/admin/meeting-participants")
-    public ResponseEntity<ApiResponse<List<FamilySurveyResponse>>> getMeetingParticipants(
+    public ResponseEntity<ApiResponse<CursorSliceResponse<FamilySurveySummaryResponse>>> getMeetingParticipants(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
             HttpSession session) {
         
         if (!authService.isAdmin(session)) {
@@ -127,17 +181,20 @@ public class FamilySurveyController {
                     .body(ApiResponse.error("관리자 권한이 필요합니다."));
         }
         
-        List<FamilySurvey> surveys = familySurveyService.getMeetingParticipants();
-        List<FamilySurveyResponse> responses = surveys.stream()
-                .map(FamilySurveyResponse::from)
-                .collect(Collectors.toList());
-        
-        return ResponseEntity.ok(ApiResponse.success(responses));
+        try {
+            Slice<FamilySurveySummaryResponse> surveys = familySurveyService.getMeetingParticipants(cursor, size);
+            return ResponseEntity.ok(ApiResponse.success(toCursorSlice(surveys)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        }
     }
     
     // 관리자용 - 상담 의향자 조회
     @GetMapping("/admin/counseling-interested")
-    public ResponseEntity<ApiResponse<List<FamilySurveyResponse>>> getCounselingInterestedUsers(
+    public ResponseEntity<ApiResponse<CursorSliceResponse<FamilySurveySummaryResponse>>> getCounselingInterestedUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
             HttpSession session) {
         
         if (!authService.isAdmin(session)) {
@@ -145,17 +202,20 @@ public class FamilySurveyController {
                     .body(ApiResponse.error("관리자 권한이 필요합니다."));
         }
         
-        List<FamilySurvey> surveys = familySurveyService.getCounselingInterestedUsers();
-        List<FamilySurveyResponse> responses = surveys.stream()
-                .map(FamilySurveyResponse::from)
-                .collect(Collectors.toList());
-        
-        return ResponseEntity.ok(ApiResponse.success(responses));
+        try {
+            Slice<FamilySurveySummaryResponse> surveys = familySurveyService.getCounselingInterestedUsers(cursor, size);
+            return ResponseEntity.ok(ApiResponse.success(toCursorSlice(surveys)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        }
     }
     
     // 관리자용 - 혼자 거주하는 유가족 조회
     @GetMapping("/admin/living-alone")
-    public ResponseEntity<ApiResponse<List<FamilySurveyResponse>>> getUsersLivingAlone(
+    public ResponseEntity<ApiResponse<CursorSliceResponse<FamilySurveySummaryResponse>>> getUsersLivingAlone(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
             HttpSession session) {
         
         if (!authService.isAdmin(session)) {
@@ -163,18 +223,63 @@ public class FamilySurveyController {
                     .body(ApiResponse.error("관리자 권한이 필요합니다."));
         }
         
-        List<FamilySurvey> surveys = familySurveyService.getUsersLivingAlone();
-        List<FamilySurveyResponse> responses = surveys.stream()
-                .map(FamilySurveyResponse::from)
-                .collect(Collectors.toList());
-        
-        return ResponseEntity.ok(ApiResponse.success(responses));
+        try {
+            Slice<FamilySurveySummaryResponse> surveys = familySurveyService.getUsersLivingAlone(cursor, size);
+            return ResponseEntity.ok(ApiResponse.success(toCursorSlice(surveys)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        }
     }
     
     // 관리자용 - 관계별 유가족 조회
     @GetMapping("/admin/by-relationship/{relationship}")
-    public ResponseEntity<ApiResponse<List<FamilySurveyResponse>>> getUsersByRelationship(
-            @PathVariable String relationship,
+    public ResponseEntity<ApiResponse<CursorSliceResponse<FamilySurveySummaryResponse>>> getUsersByRelationship(
+            @PathVariable RelationshipToDeceased relationship,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            HttpSession session) {
+        
+        if (!authService.isAdmin(session)) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("관리자 권한이 필요합니다."));
+        }
+        
+        try {
+            Slice<FamilySurveySummaryResponse> surveys =
+                    familySurveyService.getUsersByRelationship(relationship, cursor, size);
+            return ResponseEntity.ok(ApiResponse.success(toCursorSlice(surveys)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+    
+    // 관리자용 - 복합 조건 설문조사 개수
+    @PostMapping("/admin/filter/count")
+    public ResponseEntity<ApiResponse<Long>> countFilteredSurveys(
+            @RequestBody SurveyFilterRequest filter,
+            HttpSession session) {
+        
+        if (!authService.isAdmin(session)) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("관리자 권한이 필요합니다."));
+        }
+        
+        try {
+            return ResponseEntity.ok(ApiResponse.success(familySurveyService.countSurveys(filter)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+    
+    // 관리자용 - 복합 조건 설문조사 조회 (페이징)
+    @PostMapping("/admin/filter")
+    public ResponseEntity<ApiResponse<Page<FamilySurveySummaryResponse>>> filterSurveys(
+            @RequestBody SurveyFilterRequest filter,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
             HttpSession session) {
         
         if (!authService.isAdmin(session)) {
@@ -182,12 +287,32 @@ public class FamilySurveyController {
                     .body(ApiResponse.error("관리자 권한이 필요합니다."));
         }
         
-        List<FamilySurvey> surveys = familySurveyService.getUsersByRelationship(relationship);
-        List<FamilySurveyResponse> responses = surveys.stream()
-                .map(FamilySurveyResponse::from)
-                .collect(Collectors.toList());
+        try {
+            Page<FamilySurveySummaryResponse> surveys = familySurveyService.filterSurveys(filter, PageRequest.of(page, size));
+            return ResponseEntity.ok(ApiResponse.success(surveys));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+    
+    // 관리자용 - 설문조사 추이 (axis: CREATED_WEEK, CREATED_MONTH, UPDATED_WEEK, UPDATED_MONTH, MONTHS_SINCE_DEATH
+    //                  dimension: GRIEF_STAGE, COUNSELING_WILLINGNESS, MEETING_PARTICIPATION_DESIRE)
+    // CREATED_* 는 생성 구간별 현재 상태, UPDATED_* / MONTHS_SINCE_DEATH 는 변경 이력 기준으로
+    // 설문조사마다 구간별 마지막 상태를 센다 (예: 1월 DENIAL -> 3월 ACCEPTANCE면 1월과 3월에 하나씩)
+    @GetMapping("/admin/trends")
+    public ResponseEntity<ApiResponse<SurveyTrendResponse>> getTrends(
+            @RequestParam(defaultValue = "UPDATED_MONTH") SurveyTrendAxis axis,
+            @RequestParam(defaultValue = "GRIEF_STAGE") SurveyTrendDimension dimension,
+            HttpSession session) {
+        
+        if (!authService.isAdmin(session)) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("관리자 권한이 필요합니다."));
+        }
         
-        return ResponseEntity.ok(ApiResponse.success(responses));
+        SurveyTrendResponse trends = familySurveyService.getTrends(axis, dimension);
+        return ResponseEntity.ok(ApiResponse.success(trends));
     }
     
     // 관리자용 - 설문조사 통계
@@ -204,6 +329,37 @@ public class FamilySurveyController {
         return ResponseEntity.ok(ApiResponse.success(statistics));
     }
     
+    // 관리자용 - 완료된 설문조사 내보내기 (format=csv | ndjson, 응답으로 바로 스트리밍)
+    @GetMapping("/admin/export")
+    public void exportSurveys(
+            @RequestParam(defaultValue = "csv") String format,
+            HttpSession session,
+            HttpServletResponse response) throws IOException {
+        
+        if (!authService.isAdmin(session)) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "관리자 권한이 필요합니다.");
+            return;
+        }
+        
+        boolean ndjson = "ndjson".equalsIgnoreCase(format);
+        if (!ndjson && !"csv".equalsIgnoreCase(format)) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "지원하지 않는 형식입니다: " + format);
+            return;
+        }
+        
+        response.setCharacterEncoding("UTF-8");
+        response.setContentType(ndjson ? "application/x-ndjson" : "text/csv");
+        response.setHeader("Content-Disposition",
+                "attachment; filename=\"family-surveys." + (ndjson ? "ndjson" : "csv") + "\"");
+        
+        Writer writer = response.getWriter();
+        if (ndjson) {
+            familySurveyExportService.exportNdjson(writer);
+        } else {
+            familySurveyExportService.exportCsv(writer);
+        }
+    }
+    
     // 관리자용 - 특정 사용자의 설문조사 조회
     @GetMapping("/admin/user/{userId}")
     public ResponseEntity<ApiResponse<FamilySurveyResponse>> getUserSurvey(
@@ -243,4 +399,9 @@ public class FamilySurveyController {
                     .body(ApiResponse.error(e.getMessage()));
         }
     }
-}
+    
+    private static CursorSliceResponse<FamilySurveySummaryResponse> toCursorSlice(
+            Slice<FamilySurveySummaryResponse> surveys) {
+        return CursorSliceResponse.from(surveys, Function.identity(), SurveyCursor::encode);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.example.cokothon.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class BoardBulkCreateRequest {
+    
+    @NotEmpty(message = "등록할 게시글이 없습니다.")
+    @Size(max = 10000, message = "한 번에 최대 10000개까지 등록할 수 있습니다.")
+    private List<@Valid BoardCreateRequest> boards;
+}
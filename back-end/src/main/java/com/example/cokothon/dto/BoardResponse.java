@@ -36,4 +36,21 @@ public class BoardResponse {
         response.setIsAdminPost(board.getIsAdminPost());
         return response;
     }
+    
+    // 조회수만 바꾼 복사본 (캐시된 응답은 공유되므로 직접 수정하지 않는다)
+    public BoardResponse withViewCount(Integer viewCount) {
+        BoardResponse copy = new BoardResponse();
+        copy.setId(id);
+        copy.setTitle(title);
+        copy.setContent(content);
+        copy.setAuthor(author);
+        copy.setUserId(userId);
+        copy.setCategoryName(categoryName);
+        copy.setCategoryId(categoryId);
+        copy.setCreatedAt(createdAt);
+        copy.setUpdatedAt(updatedAt);
+        copy.setViewCount(viewCount);
+        copy.setIsAdminPost(isAdminPost);
+        return copy;
+    }
 }
@@ -0,0 +1,15 @@
+package com.example.cokothon.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class BoardSuggestionResponse {
+    private Long id;
+    private String title;
+    private Long categoryId;
+    private long viewCount;
+}
@@ -0,0 +1,23 @@
+package com.example.cokothon.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 목록 화면용 게시글 요약 (본문 전체는 상세 조회에서만 내려준다)
+@Getter
+@Setter
+@AllArgsConstructor
+public class BoardSummaryResponse {
+    
+    private Long id;
+    private String title;
+    private String author;
+    private Long categoryId;
+    private String categoryName;
+    private LocalDateTime createdAt;
+    private Integer viewCount;
+    private String excerpt;
+}
@@ -13,11 +13,15 @@ public class CategoryResponse {
     private int boardCount;
     
     public static CategoryResponse from(Category category) {
+        return from(category, category.getBoardCount());
+    }
+    
+    public static CategoryResponse from(Category category, int boardCount) {
         CategoryResponse response = new CategoryResponse();
         response.setId(category.getId());
         response.setName(category.getName());
         response.setDescription(category.getDescription());
-        response.setBoardCount(category.getBoards().size());
+        response.setBoardCount(boardCount);
         return response;
     }
 }
@@ -0,0 +1,34 @@
+package com.example.cokothon.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Getter
+@Setter
+public class CursorSliceResponse<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+    
+    public static <E, T> CursorSliceResponse<T> from(Slice<E> slice,
+                                                     Function<E, T> mapper,
+                                                     Function<E, String> cursorEncoder) {
+        CursorSliceResponse<T> response = new CursorSliceResponse<>();
+        response.setContent(slice.getContent().stream()
+                .map(mapper)
+                .collect(Collectors.toList()));
+        response.setSize(slice.getNumberOfElements());
+        response.setHasNext(slice.hasNext());
+        if (slice.hasNext()) {
+            List<E> content = slice.getContent();
+            response.setNextCursor(cursorEncoder.apply(content.get(content.size() - 1)));
+        }
+        return response;
+    }
+}
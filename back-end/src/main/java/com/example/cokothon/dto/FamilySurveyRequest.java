@@ -1,6 +1,13 @@
 package com.example.cokothon.dto;
 
-import jakarta.validation.constraints.NotBlank;
+import com.example.cokothon.entity.CounselingWillingness;
+import com.example.cokothon.entity.FamilySupportLevel;
+import com.example.cokothon.entity.FamilySurvey;
+import com.example.cokothon.entity.Gender;
+import com.example.cokothon.entity.GriefStage;
+import com.example.cokothon.entity.MeetingTime;
+import com.example.cokothon.entity.MeetingType;
+import com.example.cokothon.entity.RelationshipToDeceased;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
@@ -15,13 +22,13 @@ public class FamilySurveyRequest {
     @NotNull(message = "생년월일은 필수입니다.")
     private LocalDate birthDate;
     
-    private String gender; // MALE, FEMALE, OTHER
+    private Gender gender;
     private String phoneNumber;
     private String address;
     
     // 사망자와의 관계
-    @NotBlank(message = "사망자와의 관계는 필수입니다.")
-    private String relationshipToDeceased; // SPOUSE, CHILD, PARENT, SIBLING, OTHER
+    @NotNull(message = "사망자와의 관계는 필수입니다.")
+    private RelationshipToDeceased relationshipToDeceased;
     
     private String relationshipDescription; // 기타 관계 설명
     
@@ -34,19 +41,19 @@ public class FamilySurveyRequest {
     // 현재 가족 구성
     private String currentFamilyMembers;
     private Boolean livingAlone = false;
-    private String familySupportLevel; // HIGH, MEDIUM, LOW, NONE
+    private FamilySupportLevel familySupportLevel;
     
     // 심리적 상태
-    private String griefStage; // DENIAL, ANGER, BARGAINING, DEPRESSION, ACCEPTANCE
+    private GriefStage griefStage;
     private Boolean counselingExperience = false;
-    private String counselingWillingness; // VERY_INTERESTED, INTERESTED, NEUTRAL, NOT_INTERESTED
+    private CounselingWillingness counselingWillingness;
     
     // 모임 및 지원 관련
     @NotNull(message = "모임 참석 희망여부는 필수입니다.")
     private Boolean meetingParticipationDesire = false;
     
-    private String preferredMeetingType; // ONLINE, OFFLINE, BOTH
-    private String preferredMeetingTime; // WEEKDAY_MORNING, WEEKDAY_AFTERNOON, WEEKDAY_EVENING, WEEKEND
+    private MeetingType preferredMeetingType;
+    private MeetingTime preferredMeetingTime;
     private String supportNeeds;
     
     // 추가 정보
@@ -54,4 +61,38 @@ public class FamilySurveyRequest {
     
     @NotNull(message = "개인정보 처리 동의는 필수입니다.")
     private Boolean privacyAgreement = false;
+    
+    // 저장된 설문조사의 현재 값 (자동 저장 시 변경 항목만 덮어쓰는 기준)
+    public static FamilySurveyRequest from(FamilySurvey survey) {
+        FamilySurveyRequest request = new FamilySurveyRequest();
+        request.setBirthDate(survey.getBirthDate());
+        request.setGender(survey.getGender());
+        request.setPhoneNumber(survey.getPhoneNumber());
+        request.setAddress(survey.getAddress());
+        
+        request.setRelationshipToDeceased(survey.getRelationshipToDeceased());
+        request.setRelationshipDescription(survey.getRelationshipDescription());
+        
+        request.setDeceasedName(survey.getDeceasedName());
+        request.setDeceasedAge(survey.getDeceasedAge());
+        request.setDeathDate(survey.getDeathDate());
+        request.setCauseOfDeath(survey.getCauseOfDeath());
+        
+        request.setCurrentFamilyMembers(survey.getCurrentFamilyMembers());
+        request.setLivingAlone(survey.getLivingAlone());
+        request.setFamilySupportLevel(survey.getFamilySupportLevel());
+        
+        request.setGriefStage(survey.getGriefStage());
+        request.setCounselingExperience(survey.getCounselingExperience());
+        request.setCounselingWillingness(survey.getCounselingWillingness());
+        
+        request.setMeetingParticipationDesire(survey.getMeetingParticipationDesire());
+        request.setPreferredMeetingType(survey.getPreferredMeetingType());
+        request.setPreferredMeetingTime(survey.getPreferredMeetingTime());
+        request.setSupportNeeds(survey.getSupportNeeds());
+        
+        request.setAdditionalNotes(survey.getAdditionalNotes());
+        request.setPrivacyAgreement(survey.getPrivacyAgreement());
+        return request;
+    }
 }
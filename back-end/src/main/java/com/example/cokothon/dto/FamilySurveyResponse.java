@@ -1,6 +1,13 @@
 package com.example.cokothon.dto;
 
+import com.example.cokothon.entity.CounselingWillingness;
+import com.example.cokothon.entity.FamilySupportLevel;
 import com.example.cokothon.entity.FamilySurvey;
+import com.example.cokothon.entity.Gender;
+import com.example.cokothon.entity.GriefStage;
+import com.example.cokothon.entity.MeetingTime;
+import com.example.cokothon.entity.MeetingType;
+import com.example.cokothon.entity.RelationshipToDeceased;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -17,12 +24,12 @@ public class FamilySurveyResponse {
     
     // 기본 인적사항
     private LocalDate birthDate;
-    private String gender;
+    private Gender gender;
     private String phoneNumber;
     private String address;
     
     // 사망자와의 관계
-    private String relationshipToDeceased;
+    private RelationshipToDeceased relationshipToDeceased;
     private String relationshipDescription;
     
     // 사망자 정보
@@ -34,17 +41,17 @@ public class FamilySurveyResponse {
     // 현재 가족 구성
     private String currentFamilyMembers;
     private Boolean livingAlone;
-    private String familySupportLevel;
+    private FamilySupportLevel familySupportLevel;
     
     // 심리적 상태
-    private String griefStage;
+    private GriefStage griefStage;
     private Boolean counselingExperience;
-    private String counselingWillingness;
+    private CounselingWillingness counselingWillingness;
     
     // 모임 및 지원 관련
     private Boolean meetingParticipationDesire;
-    private String preferredMeetingType;
-    private String preferredMeetingTime;
+    private MeetingType preferredMeetingType;
+    private MeetingTime preferredMeetingTime;
     private String supportNeeds;
     
     // 추가 정보
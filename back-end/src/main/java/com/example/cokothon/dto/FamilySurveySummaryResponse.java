@@ -0,0 +1,32 @@
+package com.example.cokothon.dto;
+
+import com.example.cokothon.entity.CounselingWillingness;
+import com.example.cokothon.entity.FamilySupportLevel;
+import com.example.cokothon.entity.GriefStage;
+import com.example.cokothon.entity.RelationshipToDeceased;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 관리자 목록 화면용 설문조사 요약 (전체 항목은 /admin/user/{userId}에서 조회)
+@Getter
+@Setter
+@AllArgsConstructor
+public class FamilySurveySummaryResponse {
+    
+    private Long id;
+    private Long userId;
+    private String userName;
+    
+    private RelationshipToDeceased relationshipToDeceased;
+    private GriefStage griefStage;
+    private FamilySupportLevel familySupportLevel;
+    private CounselingWillingness counselingWillingness;
+    private Boolean meetingParticipationDesire;
+    private Boolean livingAlone;
+    private Boolean surveyCompleted;
+    
+    private LocalDateTime updatedAt;
+}
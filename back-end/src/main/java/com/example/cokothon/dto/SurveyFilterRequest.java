@@ -0,0 +1,19 @@
+package com.example.cokothon.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+// 설문조사 복합 조건
+// 단일 조건: {"field": "livingAlone", "value": "true"}
+// 조건 묶음: {"op": "AND" | "OR" | "NOT", "conditions": [...]} (NOT은 조건 하나)
+@Getter
+@Setter
+public class SurveyFilterRequest {
+    
+    private String op;
+    private String field;
+    private String value;
+    private List<SurveyFilterRequest> conditions;
+}
@@ -0,0 +1,27 @@
+package com.example.cokothon.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.Map;
+
+// 설문조사 추이 (시간 구간별 항목 값 개수, 구간 오름차순 - 완료된 설문조사 기준)
+@Getter
+@Setter
+@AllArgsConstructor
+public class SurveyTrendResponse {
+    
+    private String axis;
+    private String dimension;
+    private List<Bucket> buckets;
+    
+    @Getter
+    @AllArgsConstructor
+    public static class Bucket {
+        private String bucket;
+        private long total;
+        private Map<String, Long> counts;
+    }
+}
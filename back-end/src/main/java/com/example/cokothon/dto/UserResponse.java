@@ -1,9 +1,11 @@
 package com.example.cokothon.dto;
 
 import com.example.cokothon.entity.User;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 
 @Getter
@@ -16,6 +18,13 @@ public class UserResponse {
     private Boolean isAdmin;
     private LocalDateTime createdAt;
     
+    // 토큰 모드 로그인 응답에만 포함
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String accessToken;
+    
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Instant accessTokenExpiresAt;
+    
     public static UserResponse from(User user) {
         UserResponse response = new UserResponse();
         response.setId(user.getId());
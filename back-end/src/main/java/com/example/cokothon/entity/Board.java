@@ -10,14 +10,21 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "boards")
+@Table(name = "boards", indexes = {
+        @Index(name = "idx_boards_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_boards_category_created_at_id", columnList = "category_id, created_at, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 public class Board {
     
+    // 목록용 요약 최대 길이 (글자 수)
+    private static final int EXCERPT_LENGTH = 100;
+    
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "boards_id_generator")
+    @SequenceGenerator(name = "boards_id_generator", sequenceName = "boards_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false)
@@ -26,6 +33,10 @@ public class Board {
     @Column(columnDefinition = "TEXT")
     private String content;
     
+    // 목록용 본문 요약 (content를 바꿀 때 함께 갱신)
+    @Column(name = "excerpt")
+    private String excerpt;
+    
     @Column(nullable = false)
     private String author;
     
@@ -53,21 +64,38 @@ public class Board {
     
     public Board(String title, String content, String author, Category category) {
         this.title = title;
-        this.content = content;
+        setContent(content);
         this.author = author;
         this.category = category;
     }
     
     public Board(String title, String content, User user, Category category) {
         this.title = title;
-        this.content = content;
+        setContent(content);
         this.author = user.getName();
         this.user = user;
         this.category = category;
         this.isAdminPost = user.getIsAdmin();
     }
     
+    public void setContent(String content) {
+        this.content = content;
+        this.excerpt = excerptOf(content);
+    }
+    
     public void incrementViewCount() {
         this.viewCount++;
     }
+    
+    // 공백을 한 칸으로 줄이고 앞부분만 남긴다
+    private static String excerptOf(String content) {
+        if (content == null) {
+            return null;
+        }
+        String flat = content.strip().replaceAll("\\s+", " ");
+        if (flat.codePointCount(0, flat.length()) <= EXCERPT_LENGTH) {
+            return flat;
+        }
+        return flat.substring(0, flat.offsetByCodePoints(0, EXCERPT_LENGTH)) + "…";
+    }
 }
@@ -16,7 +16,8 @@ import java.util.List;
 public class Category {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "categories_id_generator")
+    @SequenceGenerator(name = "categories_id_generator", sequenceName = "categories_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, unique = true)
@@ -25,6 +26,10 @@ public class Category {
     @Column
     private String description;
     
+    // 카테고리별 게시글 수 (게시글 작성/수정/삭제 시 함께 갱신)
+    @Column(name = "board_count", nullable = false)
+    private Integer boardCount = 0;
+    
     @OneToMany(mappedBy = "category", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Board> boards = new ArrayList<>();
     
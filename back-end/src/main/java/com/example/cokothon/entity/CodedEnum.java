@@ -0,0 +1,10 @@
+package com.example.cokothon.entity;
+
+// DB에 작은 정수 코드로 저장하는 열거형
+// 코드는 한 번 정하면 바꾸지 않는다 (순서를 바꾸거나 중간 값을 지워도 기존 행의 의미가 유지되도록 ordinal 대신 사용).
+public interface CodedEnum {
+
+    short getCode();
+
+    String getLabel();
+}
@@ -0,0 +1,46 @@
+package com.example.cokothon.entity;
+
+import jakarta.persistence.AttributeConverter;
+
+import java.lang.reflect.Array;
+
+// CodedEnum <-> SMALLINT 코드 변환 (열거형마다 하위 클래스를 하나씩 둔다)
+public abstract class CodedEnumConverter<E extends Enum<E> & CodedEnum> implements AttributeConverter<E, Short> {
+
+    private final Class<E> type;
+    private final E[] byCode;
+
+    protected CodedEnumConverter(Class<E> type) {
+        this.type = type;
+        E[] constants = type.getEnumConstants();
+        int maxCode = 0;
+        for (E constant : constants) {
+            maxCode = Math.max(maxCode, constant.getCode());
+        }
+        @SuppressWarnings("unchecked")
+        E[] table = (E[]) Array.newInstance(type, maxCode + 1);
+        for (E constant : constants) {
+            if (table[constant.getCode()] != null) {
+                throw new IllegalStateException(type.getSimpleName() + " 코드가 중복되었습니다: " + constant.getCode());
+            }
+            table[constant.getCode()] = constant;
+        }
+        this.byCode = table;
+    }
+
+    @Override
+    public Short convertToDatabaseColumn(E attribute) {
+        return attribute != null ? attribute.getCode() : null;
+    }
+
+    @Override
+    public E convertToEntityAttribute(Short code) {
+        if (code == null) {
+            return null;
+        }
+        if (code < 0 || code >= byCode.length || byCode[code] == null) {
+            throw new IllegalArgumentException(type.getSimpleName() + "에 없는 코드입니다: " + code);
+        }
+        return byCode[code];
+    }
+}
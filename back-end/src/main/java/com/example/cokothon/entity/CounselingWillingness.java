@@ -0,0 +1,34 @@
+package com.example.cokothon.entity;
+
+import jakarta.persistence.Converter;
+import lombok.Getter;
+
+// 상담 의향 (DB에는 코드로 저장)
+@Getter
+public enum CounselingWillingness implements CodedEnum {
+
+    VERY_INTERESTED((short) 1, "매우 관심"),
+    INTERESTED((short) 2, "관심"),
+    NEUTRAL((short) 3, "보통"),
+    NOT_INTERESTED((short) 4, "관심없음");
+
+    private final short code;
+    private final String label;
+
+    CounselingWillingness(short code, String label) {
+        this.code = code;
+        this.label = label;
+    }
+
+    // 상담 의향이 있는 응답 (매우 관심 / 관심)
+    public boolean isInterested() {
+        return this == VERY_INTERESTED || this == INTERESTED;
+    }
+
+    @Converter
+    public static class CodeConverter extends CodedEnumConverter<CounselingWillingness> {
+        public CodeConverter() {
+            super(CounselingWillingness.class);
+        }
+    }
+}
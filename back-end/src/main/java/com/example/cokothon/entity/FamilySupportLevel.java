@@ -0,0 +1,29 @@
+package com.example.cokothon.entity;
+
+import jakarta.persistence.Converter;
+import lombok.Getter;
+
+// 가족 지원 정도 (DB에는 코드로 저장)
+@Getter
+public enum FamilySupportLevel implements CodedEnum {
+
+    HIGH((short) 1, "높음"),
+    MEDIUM((short) 2, "보통"),
+    LOW((short) 3, "낮음"),
+    NONE((short) 4, "없음");
+
+    private final short code;
+    private final String label;
+
+    FamilySupportLevel(short code, String label) {
+        this.code = code;
+        this.label = label;
+    }
+
+    @Converter
+    public static class CodeConverter extends CodedEnumConverter<FamilySupportLevel> {
+        public CodeConverter() {
+            super(FamilySupportLevel.class);
+        }
+    }
+}
@@ -5,20 +5,32 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+// 범주형 항목은 열거형 코드(SMALLINT)로 저장 - 기존 문자열 데이터는 db/migration-family-survey-enum-codes.sql로 변환
+// 자동 저장은 몇 개 항목만 바꾸므로 UPDATE에 변경된 열만 포함한다
 @Entity
-@Table(name = "family_surveys")
+@DynamicUpdate
+@Table(name = "family_surveys", indexes = {
+        @Index(name = "idx_family_surveys_completed_id", columnList = "survey_completed, id"),
+        @Index(name = "idx_family_surveys_relationship_id", columnList = "relationship_to_deceased, id"),
+        @Index(name = "idx_family_surveys_counseling_id", columnList = "counseling_willingness, id"),
+        @Index(name = "idx_family_surveys_meeting_id", columnList = "meeting_participation_desire, id"),
+        @Index(name = "idx_family_surveys_living_alone_id", columnList = "living_alone, id"),
+        @Index(name = "idx_family_surveys_completed_grief", columnList = "survey_completed, grief_stage")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 public class FamilySurvey {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "family_surveys_id_generator")
+    @SequenceGenerator(name = "family_surveys_id_generator", sequenceName = "family_surveys_seq", allocationSize = 50)
     private Long id;
     
     @OneToOne(fetch = FetchType.LAZY)
@@ -29,8 +41,9 @@ public class FamilySurvey {
     @Column(name = "birth_date")
     private LocalDate birthDate;
     
+    @Convert(converter = Gender.CodeConverter.class)
     @Column(name = "gender")
-    private String gender; // MALE, FEMALE, OTHER
+    private Gender gender;
     
     @Column(name = "phone_number")
     private String phoneNumber;
@@ -39,8 +52,9 @@ public class FamilySurvey {
     private String address;
     
     // 사망자와의 관계
+    @Convert(converter = RelationshipToDeceased.CodeConverter.class)
     @Column(name = "relationship_to_deceased", nullable = false)
-    private String relationshipToDeceased; // SPOUSE(배우자), CHILD(자녀), PARENT(부모), SIBLING(형제자매), OTHER(기타)
+    private RelationshipToDeceased relationshipToDeceased;
     
     @Column(name = "relationship_description")
     private String relationshipDescription; // 기타 관계 설명
@@ -65,28 +79,33 @@ public class FamilySurvey {
     @Column(name = "living_alone")
     private Boolean livingAlone = false;
     
+    @Convert(converter = FamilySupportLevel.CodeConverter.class)
     @Column(name = "family_support_level")
-    private String familySupportLevel; // HIGH(높음), MEDIUM(보통), LOW(낮음), NONE(없음)
+    private FamilySupportLevel familySupportLevel;
     
     // 심리적 상태
+    @Convert(converter = GriefStage.CodeConverter.class)
     @Column(name = "grief_stage")
-    private String griefStage; // DENIAL(부정), ANGER(분노), BARGAINING(협상), DEPRESSION(우울), ACCEPTANCE(수용)
+    private GriefStage griefStage;
     
     @Column(name = "counseling_experience")
     private Boolean counselingExperience = false;
     
+    @Convert(converter = CounselingWillingness.CodeConverter.class)
     @Column(name = "counseling_willingness")
-    private String counselingWillingness; // VERY_INTERESTED(매우 관심), INTERESTED(관심), NEUTRAL(보통), NOT_INTERESTED(관심없음)
+    private CounselingWillingness counselingWillingness;
     
     // 모임 및 지원 관련
     @Column(name = "meeting_participation_desire")
     private Boolean meetingParticipationDesire = false;
     
+    @Convert(converter = MeetingType.CodeConverter.class)
     @Column(name = "preferred_meeting_type")
-    private String preferredMeetingType; // ONLINE(온라인), OFFLINE(오프라인), BOTH(둘다)
+    private MeetingType preferredMeetingType;
     
+    @Convert(converter = MeetingTime.CodeConverter.class)
     @Column(name = "preferred_meeting_time")
-    private String preferredMeetingTime; // WEEKDAY_MORNING(평일오전), WEEKDAY_AFTERNOON(평일오후), WEEKDAY_EVENING(평일저녁), WEEKEND(주말)
+    private MeetingTime preferredMeetingTime;
     
     @Column(name = "support_needs", columnDefinition = "TEXT")
     private String supportNeeds; // 필요한 지원사항
@@ -101,6 +120,11 @@ public class FamilySurvey {
     @Column(name = "survey_completed")
     private Boolean surveyCompleted = false;
     
+    // 낙관적 잠금 - 다른 요청(다른 서버의 자동 저장 포함)이 먼저 바꾼 설문조사를 덮어쓰지 않는다
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+    
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,65 @@
+package com.example.cokothon.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 설문조사 변경 이력 (추이 집계의 수정 시각 / 사망 후 경과 개월 기준에 쓰는 항목만)
+// 설문조사가 삭제되어도 지난 추이가 남도록 설문조사 ID만 저장한다 (외래 키 없음)
+// 기존 DB에는 db/migration-family-survey-history.sql로 테이블을 만든다
+@Entity
+@Table(name = "family_survey_history", indexes = {
+        @Index(name = "idx_family_survey_history_survey_version", columnList = "survey_id, survey_version")
+})
+@Getter
+@NoArgsConstructor
+public class FamilySurveyHistory {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "family_survey_history_id_generator")
+    @SequenceGenerator(name = "family_survey_history_id_generator", sequenceName = "family_survey_history_seq", allocationSize = 50)
+    private Long id;
+    
+    @Column(name = "survey_id", nullable = false)
+    private Long surveyId;
+    
+    // 같은 설문조사의 변경 순서 (FamilySurvey.version)
+    @Column(name = "survey_version", nullable = false)
+    private Long surveyVersion;
+    
+    // 변경 시각 (FamilySurvey.updatedAt)
+    @Column(name = "changed_at")
+    private LocalDateTime changedAt;
+    
+    @Column(name = "survey_completed")
+    private Boolean surveyCompleted;
+    
+    @Column(name = "death_date")
+    private LocalDate deathDate;
+    
+    @Convert(converter = GriefStage.CodeConverter.class)
+    @Column(name = "grief_stage")
+    private GriefStage griefStage;
+    
+    @Convert(converter = CounselingWillingness.CodeConverter.class)
+    @Column(name = "counseling_willingness")
+    private CounselingWillingness counselingWillingness;
+    
+    @Column(name = "meeting_participation_desire")
+    private Boolean meetingParticipationDesire;
+    
+    // 저장(flush)이 끝나 version / updatedAt이 채워진 설문조사로 만든다
+    public FamilySurveyHistory(FamilySurvey survey) {
+        this.surveyId = survey.getId();
+        this.surveyVersion = survey.getVersion();
+        this.changedAt = survey.getUpdatedAt();
+        this.surveyCompleted = survey.getSurveyCompleted();
+        this.deathDate = survey.getDeathDate();
+        this.griefStage = survey.getGriefStage();
+        this.counselingWillingness = survey.getCounselingWillingness();
+        this.meetingParticipationDesire = survey.getMeetingParticipationDesire();
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.cokothon.entity;
+
+import jakarta.persistence.Converter;
+import lombok.Getter;
+
+// 성별 (DB에는 코드로 저장)
+@Getter
+public enum Gender implements CodedEnum {
+
+    MALE((short) 1, "남성"),
+    FEMALE((short) 2, "여성"),
+    OTHER((short) 3, "기타");
+
+    private final short code;
+    private final String label;
+
+    Gender(short code, String label) {
+        this.code = code;
+        this.label = label;
+    }
+
+    @Converter
+    public static class CodeConverter extends CodedEnumConverter<Gender> {
+        public CodeConverter() {
+            super(Gender.class);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.cokothon.entity;
+
+import jakarta.persistence.Converter;
+import lombok.Getter;
+
+// 애도 단계 (DB에는 코드로 저장)
+@Getter
+public enum GriefStage implements CodedEnum {
+
+    DENIAL((short) 1, "부정"),
+    ANGER((short) 2, "분노"),
+    BARGAINING((short) 3, "협상"),
+    DEPRESSION((short) 4, "우울"),
+    ACCEPTANCE((short) 5, "수용");
+
+    private final short code;
+    private final String label;
+
+    GriefStage(short code, String label) {
+        this.code = code;
+        this.label = label;
+    }
+
+    @Converter
+    public static class CodeConverter extends CodedEnumConverter<GriefStage> {
+        public CodeConverter() {
+            super(GriefStage.class);
+        }
+    }
+}
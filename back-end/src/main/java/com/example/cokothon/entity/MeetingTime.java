@@ -0,0 +1,29 @@
+package com.example.cokothon.entity;
+
+import jakarta.persistence.Converter;
+import lombok.Getter;
+
+// 선호 모임 시간 (DB에는 코드로 저장)
+@Getter
+public enum MeetingTime implements CodedEnum {
+
+    WEEKDAY_MORNING((short) 1, "평일오전"),
+    WEEKDAY_AFTERNOON((short) 2, "평일오후"),
+    WEEKDAY_EVENING((short) 3, "평일저녁"),
+    WEEKEND((short) 4, "주말");
+
+    private final short code;
+    private final String label;
+
+    MeetingTime(short code, String label) {
+        this.code = code;
+        this.label = label;
+    }
+
+    @Converter
+    public static class CodeConverter extends CodedEnumConverter<MeetingTime> {
+        public CodeConverter() {
+            super(MeetingTime.class);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.cokothon.entity;
+
+import jakarta.persistence.Converter;
+import lombok.Getter;
+
+// 선호 모임 방식 (DB에는 코드로 저장)
+@Getter
+public enum MeetingType implements CodedEnum {
+
+    ONLINE((short) 1, "온라인"),
+    OFFLINE((short) 2, "오프라인"),
+    BOTH((short) 3, "둘다");
+
+    private final short code;
+    private final String label;
+
+    MeetingType(short code, String label) {
+        this.code = code;
+        this.label = label;
+    }
+
+    @Converter
+    public static class CodeConverter extends CodedEnumConverter<MeetingType> {
+        public CodeConverter() {
+            super(MeetingType.class);
+        }
+    }
+}
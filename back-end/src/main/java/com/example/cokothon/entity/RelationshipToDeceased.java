@@ -0,0 +1,30 @@
+package com.example.cokothon.entity;
+
+import jakarta.persistence.Converter;
+import lombok.Getter;
+
+// 사망자와의 관계 (DB에는 코드로 저장)
+@Getter
+public enum RelationshipToDeceased implements CodedEnum {
+
+    SPOUSE((short) 1, "배우자"),
+    CHILD((short) 2, "자녀"),
+    PARENT((short) 3, "부모"),
+    SIBLING((short) 4, "형제자매"),
+    OTHER((short) 5, "기타");
+
+    private final short code;
+    private final String label;
+
+    RelationshipToDeceased(short code, String label) {
+        this.code = code;
+        this.label = label;
+    }
+
+    @Converter
+    public static class CodeConverter extends CodedEnumConverter<RelationshipToDeceased> {
+        public CodeConverter() {
+            super(RelationshipToDeceased.class);
+        }
+    }
+}
@@ -16,7 +16,8 @@ import java.time.LocalDateTime;
 public class User {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_id_generator")
+    @SequenceGenerator(name = "users_id_generator", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, unique = true)
@@ -1,28 +1,91 @@
 package com.example.cokothon.repository;
 
+import com.example.cokothon.dto.BoardSummaryResponse;
 import com.example.cokothon.entity.Board;
 import com.example.cokothon.entity.Category;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface BoardRepository extends JpaRepository<Board, Long> {
     
+    // 목록용 요약 조회 (본문 TEXT 컬럼은 읽지 않음)
+    String SUMMARY_SELECT = "SELECT new com.example.cokothon.dto.BoardSummaryResponse(" +
+            "b.id, b.title, b.author, c.id, c.name, b.createdAt, b.viewCount, b.excerpt) " +
+            "FROM Board b JOIN b.category c ";
+    
+    // 게시글 상세 조회 (카테고리 함께 조회)
+    @EntityGraph(attributePaths = "category")
+    Optional<Board> findWithCategoryById(Long id);
+    
     // 카테고리별 게시글 조회 (페이징)
+    @EntityGraph(attributePaths = "category")
     Page<Board> findByCategoryOrderByCreatedAtDesc(Category category, Pageable pageable);
     
     // 카테고리별 게시글 조회 (리스트)
     List<Board> findByCategoryOrderByCreatedAtDesc(Category category);
     
     // 전체 게시글 조회 (페이징)
+    @EntityGraph(attributePaths = "category")
     Page<Board> findAllByOrderByCreatedAtDesc(Pageable pageable);
     
+    // 전체 게시글 요약 커서 조회 (첫 페이지, count 쿼리 없음)
+    @Query(SUMMARY_SELECT + "ORDER BY b.createdAt DESC, b.id DESC")
+    Slice<BoardSummaryResponse> findLatestSummaries(Pageable pageable);
+    
+    // 전체 게시글 요약 커서 조회 ((createdAt, id) 이전 위치부터)
+    @Query(SUMMARY_SELECT +
+           "WHERE b.createdAt <= :createdAt AND (b.createdAt < :createdAt OR b.id < :id) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    Slice<BoardSummaryResponse> findLatestSummariesBefore(@Param("createdAt") LocalDateTime createdAt,
+                                                          @Param("id") Long id,
+                                                          Pageable pageable);
+    
+    // 카테고리별 게시글 요약 커서 조회 (첫 페이지)
+    @Query(SUMMARY_SELECT + "WHERE c.id = :categoryId ORDER BY b.createdAt DESC, b.id DESC")
+    Slice<BoardSummaryResponse> findLatestSummariesByCategory(@Param("categoryId") Long categoryId, Pageable pageable);
+    
+    // 카테고리별 게시글 요약 커서 조회 ((createdAt, id) 이전 위치부터)
+    @Query(SUMMARY_SELECT +
+           "WHERE c.id = :categoryId " +
+           "AND b.createdAt <= :createdAt AND (b.createdAt < :createdAt OR b.id < :id) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    Slice<BoardSummaryResponse> findLatestSummariesByCategoryBefore(@Param("categoryId") Long categoryId,
+                                                                    @Param("createdAt") LocalDateTime createdAt,
+                                                                    @Param("id") Long id,
+                                                                    Pageable pageable);
+    
+    // ID 목록으로 게시글 요약 조회
+    @Query(SUMMARY_SELECT + "WHERE b.id IN :ids")
+    List<BoardSummaryResponse> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+    
+    // 카테고리별 게시글 커서 조회 - 내보내기용 (첫 페이지)
+    @EntityGraph(attributePaths = "category")
+    @Query("SELECT b FROM Board b WHERE b.category.id = :categoryId ORDER BY b.createdAt DESC, b.id DESC")
+    Slice<Board> findLatestByCategory(@Param("categoryId") Long categoryId, Pageable pageable);
+    
+    // 카테고리별 게시글 커서 조회 - 내보내기용 ((createdAt, id) 이전 위치부터)
+    @EntityGraph(attributePaths = "category")
+    @Query("SELECT b FROM Board b " +
+           "WHERE b.category.id = :categoryId " +
+           "AND b.createdAt <= :createdAt AND (b.createdAt < :createdAt OR b.id < :id) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    Slice<Board> findLatestByCategoryBefore(@Param("categoryId") Long categoryId,
+                                            @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id,
+                                            Pageable pageable);
+    
     // 제목으로 검색
     @Query("SELECT b FROM Board b WHERE b.title LIKE %:keyword% ORDER BY b.createdAt DESC")
     Page<Board> findByTitleContaining(@Param("keyword") String keyword, Pageable pageable);
@@ -34,4 +97,7 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
     // 제목 또는 내용으로 검색
     @Query("SELECT b FROM Board b WHERE b.title LIKE %:keyword% OR b.content LIKE %:keyword% ORDER BY b.createdAt DESC")
     Page<Board> findByTitleOrContentContaining(@Param("keyword") String keyword, Pageable pageable);
+    
+    // ID 순서로 일정 개수씩 조회 (검색 색인 구성용)
+    Slice<Board> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
 }
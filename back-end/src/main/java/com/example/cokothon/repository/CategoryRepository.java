@@ -2,11 +2,40 @@ package com.example.cokothon.repository;
 
 import com.example.cokothon.entity.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
     Optional<Category> findByName(String name);
+    
+    // 게시글 수 증감
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Category c SET c.boardCount = c.boardCount + :delta WHERE c.id = :id")
+    int adjustBoardCount(@Param("id") Long id, @Param("delta") int delta);
+    
+    // 카테고리별 게시글 수 (id, boardCount)
+    @Query("SELECT c.id, c.boardCount FROM Category c")
+    List<Object[]> findBoardCounts();
+    
+    // 카테고리의 게시글 수
+    @Query("SELECT c.boardCount FROM Category c WHERE c.id = :id")
+    Optional<Integer> findBoardCountById(@Param("id") Long id);
+    
+    // 전체 게시글 수 (카테고리별 게시글 수 합계)
+    @Query("SELECT COALESCE(SUM(c.boardCount), 0) FROM Category c")
+    long sumBoardCounts();
+    
+    // 카테고리별 게시글 수 재계산 (시작 시 보정용)
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Category c SET c.boardCount = (SELECT COUNT(b) FROM Board b WHERE b.category = c)")
+    int recountBoards();
 }
@@ -0,0 +1,32 @@
+package com.example.cokothon.repository;
+
+import com.example.cokothon.entity.FamilySurveyHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface FamilySurveyHistoryRepository extends JpaRepository<FamilySurveyHistory, Long> {
+    
+    // 추이 집계용 이력 행 (설문조사별 변경 순서대로)
+    // 열 순서: 설문조사 ID, 완료 여부, 변경 시각, 사망일, 애도 단계, 상담 의향, 모임 참석 희망
+    @Query("SELECT h.surveyId, h.surveyCompleted, h.changedAt, h.deathDate, h.griefStage, " +
+           "h.counselingWillingness, h.meetingParticipationDesire " +
+           "FROM FamilySurveyHistory h ORDER BY h.surveyId, h.surveyVersion, h.id")
+    List<Object[]> getTrendRows();
+    
+    // 이력이 없는 설문조사의 현재 상태를 첫 이력으로 추가 (이력 도입 전 데이터 / 저장소로 바로 넣은 데이터 보정용)
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("INSERT INTO FamilySurveyHistory (surveyId, surveyVersion, changedAt, surveyCompleted, deathDate, " +
+           "griefStage, counselingWillingness, meetingParticipationDesire) " +
+           "SELECT fs.id, fs.version, fs.updatedAt, fs.surveyCompleted, fs.deathDate, " +
+           "fs.griefStage, fs.counselingWillingness, fs.meetingParticipationDesire " +
+           "FROM FamilySurvey fs " +
+           "WHERE NOT EXISTS (SELECT 1 FROM FamilySurveyHistory h WHERE h.surveyId = fs.id)")
+    int backfill();
+}
@@ -1,56 +1,108 @@
 package com.example.cokothon.repository;
 
+import com.example.cokothon.dto.FamilySurveySummaryResponse;
 import com.example.cokothon.entity.FamilySurvey;
+import com.example.cokothon.entity.RelationshipToDeceased;
 import com.example.cokothon.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface FamilySurveyRepository extends JpaRepository<FamilySurvey, Long> {
     
+    // 관리자 목록용 요약 조회 (사용자 이름까지 한 번에 조회)
+    String SUMMARY_SELECT = "SELECT new com.example.cokothon.dto.FamilySurveySummaryResponse(" +
+            "fs.id, u.id, u.name, fs.relationshipToDeceased, fs.griefStage, fs.familySupportLevel, " +
+            "fs.counselingWillingness, fs.meetingParticipationDesire, fs.livingAlone, fs.surveyCompleted, fs.updatedAt) " +
+            "FROM FamilySurvey fs JOIN fs.user u ";
+    
+    // 상담 의향이 있는 응답 (CounselingWillingness.isInterested와 같은 값)
+    String COUNSELING_INTERESTED = "(com.example.cokothon.entity.CounselingWillingness.VERY_INTERESTED, " +
+            "com.example.cokothon.entity.CounselingWillingness.INTERESTED)";
+    
     // 사용자별 설문조사 조회
     Optional<FamilySurvey> findByUser(User user);
+    @EntityGraph(attributePaths = "user")
     Optional<FamilySurvey> findByUserId(Long userId);
     
-    // 완료된 설문조사만 조회
-    List<FamilySurvey> findBySurveyCompletedTrue();
+    // 통계용 쿼리들
+    @Query("SELECT COUNT(fs) FROM FamilySurvey fs WHERE fs.surveyCompleted = true")
+    long countCompletedSurveys();
     
-    // 미완료 설문조사 조회
-    List<FamilySurvey> findBySurveyCompletedFalse();
+    @Query("SELECT fs.relationshipToDeceased, COUNT(fs) FROM FamilySurvey fs WHERE fs.surveyCompleted = true GROUP BY fs.relationshipToDeceased")
+    List<Object[]> getRelationshipStatistics();
     
-    // 사망자와의 관계별 조회
-    List<FamilySurvey> findByRelationshipToDeceased(String relationship);
+    @Query("SELECT fs.griefStage, COUNT(fs) FROM FamilySurvey fs WHERE fs.surveyCompleted = true AND fs.griefStage IS NOT NULL GROUP BY fs.griefStage")
+    List<Object[]> getGriefStageStatistics();
     
-    // 모임 참석 희망자 조회
-    List<FamilySurvey> findByMeetingParticipationDesireTrue();
+    // 통계용 항목 조합별 개수 (한 번의 집계 쿼리로 전체 통계 계산)
+    // 열 순서: 완료 여부, 관계, 애도 단계, 가족 지원 수준, 선호 모임 방식, 선호 모임 시간, 모임 참석 희망, 혼자 거주, 상담 의향, 개수
+    @Query("SELECT fs.surveyCompleted, fs.relationshipToDeceased, fs.griefStage, fs.familySupportLevel, " +
+           "fs.preferredMeetingType, fs.preferredMeetingTime, fs.meetingParticipationDesire, fs.livingAlone, " +
+           "fs.counselingWillingness, COUNT(fs) " +
+           "FROM FamilySurvey fs " +
+           "GROUP BY fs.surveyCompleted, fs.relationshipToDeceased, fs.griefStage, fs.familySupportLevel, " +
+           "fs.preferredMeetingType, fs.preferredMeetingTime, fs.meetingParticipationDesire, fs.livingAlone, " +
+           "fs.counselingWillingness")
+    List<Object[]> getStatisticsGroups();
     
-    // 상담 의향이 있는 사용자 조회
-    @Query("SELECT fs FROM FamilySurvey fs WHERE fs.counselingWillingness IN ('VERY_INTERESTED', 'INTERESTED')")
-    List<FamilySurvey> findUsersInterestedInCounseling();
+    // 비트맵 색인 구성용 항목 조회 (ID + 통계용 항목과 같은 열 순서)
+    @Query("SELECT fs.id, fs.surveyCompleted, fs.relationshipToDeceased, fs.griefStage, fs.familySupportLevel, " +
+           "fs.preferredMeetingType, fs.preferredMeetingTime, fs.meetingParticipationDesire, fs.livingAlone, " +
+           "fs.counselingWillingness " +
+           "FROM FamilySurvey fs")
+    List<Object[]> getIndexRows();
     
-    // 혼자 살고 있는 유가족 조회
-    List<FamilySurvey> findByLivingAloneTrue();
+    // 추이 집계 구성용 항목 조회 (완료된 설문조사)
+    // 열 순서: 완료 여부, 생성 시각, 수정 시각, 사망일, 애도 단계, 상담 의향, 모임 참석 희망
+    @Query("SELECT fs.surveyCompleted, fs.createdAt, fs.updatedAt, fs.deathDate, fs.griefStage, " +
+           "fs.counselingWillingness, fs.meetingParticipationDesire " +
+           "FROM FamilySurvey fs WHERE fs.surveyCompleted = true")
+    List<Object[]> getTrendRows();
     
-    // 가족 지원 정도별 조회
-    List<FamilySurvey> findByFamilySupportLevel(String supportLevel);
+    // 관리자 목록 요약 조회 (ID 내림차순 커서 페이징 - beforeId보다 작은 ID부터)
+    @Query(SUMMARY_SELECT + "WHERE fs.surveyCompleted = true AND fs.id < :beforeId ORDER BY fs.id DESC")
+    Slice<FamilySurveySummaryResponse> findCompletedSummaries(@Param("beforeId") Long beforeId, Pageable pageable);
     
-    // 선호하는 모임 방식별 조회
-    List<FamilySurvey> findByPreferredMeetingType(String meetingType);
+    @Query(SUMMARY_SELECT + "WHERE fs.surveyCompleted = false AND fs.id < :beforeId ORDER BY fs.id DESC")
+    Slice<FamilySurveySummaryResponse> findIncompleteSummaries(@Param("beforeId") Long beforeId, Pageable pageable);
     
-    // 통계용 쿼리들
-    @Query("SELECT COUNT(fs) FROM FamilySurvey fs WHERE fs.surveyCompleted = true")
-    long countCompletedSurveys();
+    @Query(SUMMARY_SELECT + "WHERE fs.meetingParticipationDesire = true AND fs.id < :beforeId ORDER BY fs.id DESC")
+    Slice<FamilySurveySummaryResponse> findMeetingParticipantSummaries(@Param("beforeId") Long beforeId, Pageable pageable);
     
-    @Query("SELECT fs.relationshipToDeceased, COUNT(fs) FROM FamilySurvey fs WHERE fs.surveyCompleted = true GROUP BY fs.relationshipToDeceased")
-    List<Object[]> getRelationshipStatistics();
+    @Query(SUMMARY_SELECT + "WHERE fs.counselingWillingness IN " + COUNSELING_INTERESTED + " " +
+           "AND fs.id < :beforeId ORDER BY fs.id DESC")
+    Slice<FamilySurveySummaryResponse> findCounselingInterestedSummaries(@Param("beforeId") Long beforeId, Pageable pageable);
     
-    @Query("SELECT fs.griefStage, COUNT(fs) FROM FamilySurvey fs WHERE fs.surveyCompleted = true AND fs.griefStage IS NOT NULL GROUP BY fs.griefStage")
-    List<Object[]> getGriefStageStatistics();
+    @Query(SUMMARY_SELECT + "WHERE fs.livingAlone = true AND fs.id < :beforeId ORDER BY fs.id DESC")
+    Slice<FamilySurveySummaryResponse> findLivingAloneSummaries(@Param("beforeId") Long beforeId, Pageable pageable);
+    
+    @Query(SUMMARY_SELECT + "WHERE fs.relationshipToDeceased = :relationship AND fs.id < :beforeId ORDER BY fs.id DESC")
+    Slice<FamilySurveySummaryResponse> findSummariesByRelationship(@Param("relationship") RelationshipToDeceased relationship,
+                                                                   @Param("beforeId") Long beforeId,
+                                                                   Pageable pageable);
+    
+    // ID 목록으로 요약 조회 (복합 조건 검색 결과 페이지용)
+    @Query(SUMMARY_SELECT + "WHERE fs.id IN :ids")
+    List<FamilySurveySummaryResponse> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+    
+    // 내보내기용 완료된 설문조사 (ID 오름차순 커서 - afterId보다 큰 ID부터, 배치마다 따로 읽는다)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT fs FROM FamilySurvey fs JOIN FETCH fs.user " +
+           "WHERE fs.surveyCompleted = true AND fs.id > :afterId ORDER BY fs.id")
+    List<FamilySurvey> findCompletedForExport(@Param("afterId") Long afterId, Pageable pageable);
     
     // 사용자가 설문조사를 완료했는지 확인
     @Query("SELECT CASE WHEN COUNT(fs) > 0 THEN true ELSE false END FROM FamilySurvey fs WHERE fs.user.id = :userId AND fs.surveyCompleted = true")
@@ -1,9 +1,13 @@
 package com.example.cokothon.repository;
 
 import com.example.cokothon.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +15,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
     Optional<User> findByUsernameAndPassword(String username, String password);
     boolean existsByUsername(String username);
+    
+    // 사용자명 목록 (id, username) - id 순 배치 조회용
+    @Query("SELECT u.id, u.username FROM User u WHERE u.id > :lastId ORDER BY u.id")
+    List<Object[]> findUsernamesAfter(@Param("lastId") Long lastId, Pageable pageable);
 }
@@ -0,0 +1,147 @@
+package com.example.cokothon.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 서명된 접근 토큰 (auth.token.enabled=true 일 때 세션 대신 사용)
+// 토큰 = base64url(본문) + "." + base64url(HMAC-SHA256(본문)), 본문에 사용자 ID / 이름 / 관리자 여부 / 만료 시각 / 토큰 ID가 들어 있다.
+// 검증은 서명과 만료 시각만 확인하므로 서버 상태나 DB 조회가 필요 없고, 같은 비밀키를 쓰는 어느 서버에서도 통과한다.
+// 로그아웃한 토큰만 만료 시각까지 폐기 목록(메모리)에 남겨 거절한다.
+@Service
+@Slf4j
+public class AccessTokenService {
+
+    private static final String VERSION = "1";
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final boolean enabled;
+    private final Duration ttl;
+    private final SecretKeySpec key;
+    private final SecureRandom random = new SecureRandom();
+    private final ThreadLocal<Mac> macs;
+
+    // 폐기된 토큰 ID -> 만료 시각 (epoch 초)
+    private final Map<Long, Long> revoked = new ConcurrentHashMap<>();
+
+    public AccessTokenService(@Value("${auth.token.enabled:false}") boolean enabled,
+                              @Value("${auth.token.ttl:1h}") Duration ttl,
+                              @Value("${auth.token.secret:}") String secret) {
+        this.enabled = enabled;
+        this.ttl = ttl;
+
+        byte[] keyBytes;
+        if (secret.isBlank()) {
+            keyBytes = new byte[32];
+            random.nextBytes(keyBytes);
+            if (enabled) {
+                log.warn("auth.token.secret이 없어 임시 키를 생성했습니다. 재시작하거나 다른 서버로 가면 토큰이 무효가 됩니다.");
+            }
+        } else {
+            keyBytes = Base64.getDecoder().decode(secret);
+            if (keyBytes.length < 32) {
+                throw new IllegalStateException("auth.token.secret은 32바이트 이상이어야 합니다.");
+            }
+        }
+        this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 토큰 발급
+    public AccessToken issue(SessionPrincipal principal) {
+        long tokenId = random.nextLong();
+        Instant expiresAt = Instant.now().plus(ttl).truncatedTo(ChronoUnit.SECONDS);
+        String body = String.join("|", VERSION,
+                String.valueOf(principal.id()),
+                principal.admin() ? "1" : "0",
+                String.valueOf(expiresAt.getEpochSecond()),
+                Long.toHexString(tokenId),
+                principal.name());
+        byte[] payload = body.getBytes(StandardCharsets.UTF_8);
+        String value = ENCODER.encodeToString(payload) + "." + ENCODER.encodeToString(sign(payload));
+        return new AccessToken(value, principal, tokenId, expiresAt);
+    }
+
+    // 서명 / 만료 / 폐기 여부 확인 (형식이 잘못된 토큰도 빈 값)
+    public Optional<AccessToken> verify(String value) {
+        int dot = value.indexOf('.');
+        if (dot <= 0 || dot != value.lastIndexOf('.')) {
+            return Optional.empty();
+        }
+        try {
+            byte[] payload = DECODER.decode(value.substring(0, dot));
+            byte[] signature = DECODER.decode(value.substring(dot + 1));
+            if (!MessageDigest.isEqual(sign(payload), signature)) {
+                return Optional.empty();
+            }
+
+            String[] fields = new String(payload, StandardCharsets.UTF_8).split("\\|", 6);
+            if (fields.length != 6 || !VERSION.equals(fields[0])) {
+                return Optional.empty();
+            }
+            long expiresAt = Long.parseLong(fields[3]);
+            long tokenId = Long.parseUnsignedLong(fields[4], 16);
+            if (expiresAt <= Instant.now().getEpochSecond() || revoked.containsKey(tokenId)) {
+                return Optional.empty();
+            }
+            SessionPrincipal principal = new SessionPrincipal(Long.valueOf(fields[1]), fields[5], "1".equals(fields[2]));
+            return Optional.of(new AccessToken(value, principal, tokenId, Instant.ofEpochSecond(expiresAt)));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    // 로그아웃 - 만료 시각까지 폐기 목록에 보관
+    public void revoke(AccessToken token) {
+        revoked.put(token.tokenId(), token.expiresAt().getEpochSecond());
+    }
+
+    // 이미 만료된 토큰은 서명 검증 단계에서 거절되므로 폐기 목록에서 뺀다
+    @Scheduled(fixedDelayString = "${auth.token.revocation-cleanup-interval-ms:60000}")
+    public void purgeExpiredRevocations() {
+        long now = Instant.now().getEpochSecond();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+
+    public int countRevoked() {
+        return revoked.size();
+    }
+
+    private byte[] sign(byte[] payload) {
+        return macs.get().doFinal(payload);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record AccessToken(String value, SessionPrincipal principal, long tokenId, Instant expiresAt) {
+    }
+}
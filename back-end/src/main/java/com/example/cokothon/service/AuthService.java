@@ -5,6 +5,7 @@ import com.example.cokothon.dto.RegisterRequest;
 import com.example.cokothon.entity.User;
 import com.example.cokothon.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,13 +18,17 @@ import java.util.Optional;
 public class AuthService {
     
     private final UserRepository userRepository;
-    private static final String SESSION_USER_KEY = "loggedInUser";
+    private final UsernameBloomFilter usernameFilter;
+    public static final String SESSION_USER_KEY = "loggedInUser";
     
     @Transactional
     public User register(RegisterRequest request) {
-        // 중복 사용자명 체크
-        if (userRepository.existsByUsername(request.getUsername())) {
-            throw new IllegalArgumentException("이미 존재하는 사용자명입니다.");
+        // 중복 사용자명 체크 (필터에 없으면 조회 생략 - 다른 인스턴스에서 가입한 이름은 유니크 제약이 막는다)
+        if (usernameFilter.mightContain(request.getUsername())) {
+            if (userRepository.existsByUsername(request.getUsername())) {
+                throw new IllegalArgumentException("이미 존재하는 사용자명입니다.");
+            }
+            usernameFilter.recordFalsePositive();
         }
         
         User user = new User(
@@ -34,10 +39,25 @@ public class AuthService {
                 false // 일반 사용자로 등록
         );
         
-        return userRepository.save(user);
+        User saved;
+        try {
+            saved = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException("이미 존재하는 사용자명입니다.");
+        }
+        // 커밋 전에 넣어 두어도 롤백 시 오탐이 하나 늘 뿐 잘못된 "없음" 판정은 생기지 않는다
+        usernameFilter.put(saved.getUsername());
+        return saved;
     }
     
     public User login(LoginRequest request, HttpSession session) {
+        // 필터에 없는 사용자명은 조회 없이 실패 처리
+        // (여러 서버 배포에서는 다른 서버에서 가입한 이름이 아직 없을 수 있어 DB로 확인)
+        boolean mightExist = usernameFilter.mightContain(request.getUsername());
+        if (!mightExist && usernameFilter.isAuthoritative()) {
+            throw new IllegalArgumentException("사용자명 또는 비밀번호가 잘못되었습니다.");
+        }
+        
         Optional<User> userOpt = userRepository.findByUsernameAndPassword(
                 request.getUsername(), 
                 request.getPassword()
@@ -48,7 +68,10 @@ public class AuthService {
         }
         
         User user = userOpt.get();
-        session.setAttribute(SESSION_USER_KEY, user);
+        if (!mightExist) {
+            usernameFilter.recordFalseNegative(user.getUsername());
+        }
+        session.setAttribute(SESSION_USER_KEY, SessionPrincipal.from(user));
         
         return user;
     }
@@ -58,20 +81,35 @@ public class AuthService {
         session.invalidate();
     }
     
-    public User getCurrentUser(HttpSession session) {
-        Object userObj = session.getAttribute(SESSION_USER_KEY);
-        if (userObj instanceof User) {
-            return (User) userObj;
+    // 세션의 로그인 정보 (DB 조회 없음)
+    public SessionPrincipal getCurrentUser(HttpSession session) {
+        Object principal = session.getAttribute(SESSION_USER_KEY);
+        if (principal instanceof SessionPrincipal) {
+            return (SessionPrincipal) principal;
         }
         return null;
     }
     
+    // 로그인한 사용자의 전체 정보 (DB 조회)
+    public Optional<User> findCurrentUser(HttpSession session) {
+        SessionPrincipal principal = getCurrentUser(session);
+        if (principal == null) {
+            return Optional.empty();
+        }
+        return userRepository.findById(principal.id());
+    }
+    
+    // 연관관계 설정용 사용자 참조 (조회 쿼리 없이 프록시만 생성)
+    public User getUserReference(SessionPrincipal principal) {
+        return userRepository.getReferenceById(principal.id());
+    }
+    
     public boolean isLoggedIn(HttpSession session) {
         return getCurrentUser(session) != null;
     }
     
     public boolean isAdmin(HttpSession session) {
-        User user = getCurrentUser(session);
-        return user != null && user.getIsAdmin();
+        SessionPrincipal principal = getCurrentUser(session);
+        return principal != null && principal.admin();
     }
 }
@@ -0,0 +1,95 @@
+package com.example.cokothon.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 로그인 / 회원가입 요청 제한 (클라이언트 IP별, 사용자명별 토큰 버킷)
+// 버킷은 "다음 토큰이 생기는 시각" 하나만 AtomicLong으로 들고 CAS로 갱신한다 (GCRA - 토큰 버킷과 같은 동작, 잠금 없음).
+// 버킷 맵은 크기 제한 + 유휴 만료가 있는 Caffeine 캐시라 공격 트래픽이 키를 늘려도 메모리가 일정하다.
+// 유휴 만료 시간은 버킷이 가득 차는 시간과 같아서, 만료로 버킷이 사라져도 제한이 느슨해지지 않는다.
+// 거절은 DB 조회 전에 일어나며 auth.throttle.requests{scope, result} 지표로 집계된다.
+@Component
+public class AuthThrottle {
+
+    private final Scope addresses;
+    private final Scope usernames;
+
+    public AuthThrottle(MeterRegistry meterRegistry,
+                        @Value("${auth.throttle.max-tracked:100000}") long maxTracked,
+                        @Value("${auth.throttle.ip.capacity:20}") int ipCapacity,
+                        @Value("${auth.throttle.ip.refill-interval:3s}") Duration ipRefillInterval,
+                        @Value("${auth.throttle.username.capacity:5}") int usernameCapacity,
+                        @Value("${auth.throttle.username.refill-interval:30s}") Duration usernameRefillInterval) {
+        this.addresses = new Scope("ip", ipCapacity, ipRefillInterval, maxTracked, meterRegistry);
+        this.usernames = new Scope("username", usernameCapacity, usernameRefillInterval, maxTracked, meterRegistry);
+    }
+
+    // 요청 허용 여부 (허용이면 0, 거절이면 다시 시도할 수 있을 때까지의 초)
+    // IP 버킷을 먼저 확인해 이미 막힌 IP가 사용자명 버킷까지 소모하지 않도록 한다.
+    public long tryAcquire(String action, String username, String remoteAddress) {
+        long waitNanos = addresses.tryAcquire(action + ":" + remoteAddress);
+        if (waitNanos == 0 && username != null) {
+            waitNanos = usernames.tryAcquire(action + ":" + username.toLowerCase(Locale.ROOT));
+        }
+        return waitNanos == 0 ? 0 : Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+    }
+
+    private static final class Scope {
+        private final long intervalNanos;
+        private final long burstNanos;
+        private final Cache<String, AtomicLong> buckets;
+        private final Counter allowed;
+        private final Counter rejected;
+
+        private Scope(String name, int capacity, Duration refillInterval, long maxTracked, MeterRegistry meterRegistry) {
+            this.intervalNanos = refillInterval.toNanos();
+            this.burstNanos = intervalNanos * capacity;
+            this.buckets = Caffeine.newBuilder()
+                    .maximumSize(maxTracked)
+                    .expireAfterAccess(Duration.ofNanos(burstNanos))
+                    .build();
+            this.allowed = Counter.builder("auth.throttle.requests")
+                    .tag("scope", name)
+                    .tag("result", "allowed")
+                    .register(meterRegistry);
+            this.rejected = Counter.builder("auth.throttle.requests")
+                    .tag("scope", name)
+                    .tag("result", "rejected")
+                    .register(meterRegistry);
+            Gauge.builder("auth.throttle.buckets", buckets, Cache::estimatedSize)
+                    .tag("scope", name)
+                    .description("Throttle buckets currently tracked")
+                    .register(meterRegistry);
+        }
+
+        // 토큰 하나 사용 (성공 시 0, 실패 시 남은 대기 시간 ns)
+        private long tryAcquire(String key) {
+            AtomicLong nextFree = buckets.get(key, k -> new AtomicLong(Long.MIN_VALUE));
+            long now = System.nanoTime();
+            while (true) {
+                long current = nextFree.get();
+                long start = current == Long.MIN_VALUE || current - now < 0 ? now : current;
+                long next = start + intervalNanos;
+                long overflow = next - now - burstNanos;
+                if (overflow > 0) {
+                    rejected.increment();
+                    return overflow;
+                }
+                if (nextFree.compareAndSet(current, next)) {
+                    allowed.increment();
+                    return 0;
+                }
+            }
+        }
+    }
+}
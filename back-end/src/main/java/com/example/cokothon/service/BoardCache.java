@@ -0,0 +1,109 @@
+package com.example.cokothon.service;
+
+import com.example.cokothon.dto.BoardResponse;
+import com.example.cokothon.dto.BoardSummaryResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// 게시글 상세 / 목록 앞쪽 페이지 캐시 (Caffeine W-TinyLFU, 크기 + TTL 기반 만료)
+// 게시글 변경 시 해당 게시글과 관련 카테고리의 페이지만 무효화한다.
+// 목록 키에는 카테고리별 세대 번호가 들어 있어, 무효화 전에 시작된(커밋 전 데이터를 읽었을 수 있는) 로딩 결과는
+// 이전 세대 키로 저장되므로 다시 읽히지 않는다.
+// 적중/실패/제거 횟수는 actuator metrics(cache.gets, cache.evictions)로 노출된다.
+@Component
+public class BoardCache {
+
+    // 전체 목록의 세대 키 (카테고리 ID는 1부터)
+    private static final Long ALL_CATEGORIES = 0L;
+
+    private final Cache<Long, BoardResponse> details;
+    private final Cache<PageKey, Page<BoardSummaryResponse>> pages;
+    private final int cachedPageCount;
+
+    // 카테고리 ID(전체 목록은 ALL_CATEGORIES) -> 목록 세대 번호 (변경 시 증가)
+    private final Map<Long, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    public BoardCache(MeterRegistry meterRegistry,
+                      @Value("${board.cache.detail-max-size:10000}") long detailMaxSize,
+                      @Value("${board.cache.page-max-size:1000}") long pageMaxSize,
+                      @Value("${board.cache.cached-pages:3}") int cachedPageCount,
+                      @Value("${board.cache.ttl:30s}") Duration ttl) {
+        this.details = Caffeine.newBuilder()
+                .maximumSize(detailMaxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(pageMaxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.cachedPageCount = cachedPageCount;
+
+        CaffeineCacheMetrics.monitor(meterRegistry, details, "boards.detail");
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, "boards.pages");
+    }
+
+    // 상세 조회 (없으면 loader로 읽어 저장, loader가 null을 반환하면 저장하지 않음)
+    public BoardResponse getDetail(Long id, Function<Long, BoardResponse> loader) {
+        return details.get(id, loader);
+    }
+
+    // 목록 조회 (categoryId가 null이면 전체 목록) - 앞쪽 cachedPageCount 페이지만 캐시
+    public Page<BoardSummaryResponse> getPage(Long categoryId, Pageable pageable, Supplier<Page<BoardSummaryResponse>> loader) {
+        if (pageable.getPageNumber() >= cachedPageCount) {
+            return loader.get();
+        }
+        PageKey key = new PageKey(categoryId, generation(categoryId).get(), pageable.getPageNumber(), pageable.getPageSize());
+        return pages.get(key, k -> loader.get());
+    }
+
+    @TransactionalEventListener
+    public void onBoardChanged(BoardChangedEvent event) {
+        details.invalidate(event.getBoardId());
+        invalidatePages(null);
+        invalidatePages(event.getBoard().getCategory().getId());
+        if (event.getPreviousCategoryId() != null) {
+            invalidatePages(event.getPreviousCategoryId());
+        }
+    }
+
+    // 조회수가 DB에 반영된 게시글은 다음 조회 시 다시 읽는다
+    public void evictDetail(Long id) {
+        details.invalidate(id);
+    }
+
+    public void invalidateAll() {
+        details.invalidateAll();
+        generations.values().forEach(AtomicLong::incrementAndGet);
+        pages.invalidateAll();
+    }
+
+    // 세대를 올린 뒤 이전 세대 페이지를 정리 (정리 도중 저장되는 이전 세대 페이지는 읽히지 않고 TTL로 사라진다)
+    private void invalidatePages(Long categoryId) {
+        long current = generation(categoryId).incrementAndGet();
+        pages.asMap().keySet().removeIf(key -> Objects.equals(key.categoryId(), categoryId) && key.generation() < current);
+    }
+
+    private AtomicLong generation(Long categoryId) {
+        return generations.computeIfAbsent(categoryId != null ? categoryId : ALL_CATEGORIES, id -> new AtomicLong());
+    }
+
+    private record PageKey(Long categoryId, long generation, int page, int size) {
+    }
+}
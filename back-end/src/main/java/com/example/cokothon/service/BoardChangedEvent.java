@@ -0,0 +1,25 @@
+package com.example.cokothon.service;
+
+import com.example.cokothon.entity.Board;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 게시글 생성/수정/삭제 이벤트 (트랜잭션 커밋 후 색인 등에 반영)
+@Getter
+@RequiredArgsConstructor
+public class BoardChangedEvent {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final Type type;
+    private final Board board;
+
+    // 수정/삭제 이전의 카테고리 ID (생성 시 null)
+    private final Long previousCategoryId;
+
+    public Long getBoardId() {
+        return board.getId();
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.cokothon.service;
+
+import com.example.cokothon.dto.BoardSummaryResponse;
+import com.example.cokothon.entity.Board;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+// 게시글 커서 페이징 위치 (createdAt, id) - 클라이언트에는 불투명한 문자열로 전달
+public record BoardCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static String encode(Board board) {
+        return encode(board.getCreatedAt(), board.getId());
+    }
+    
+    public static String encode(BoardSummaryResponse summary) {
+        return encode(summary.getCreatedAt(), summary.getId());
+    }
+    
+    private static String encode(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static BoardCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new BoardCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
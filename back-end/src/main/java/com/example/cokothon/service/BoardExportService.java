@@ -0,0 +1,49 @@
+package com.example.cokothon.service;
+
+import com.example.cokothon.dto.BoardResponse;
+import com.example.cokothon.entity.Board;
+import com.example.cokothon.repository.BoardRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.Writer;
+
+// 카테고리별 게시글 내보내기 (NDJSON, 최신순)
+// (작성일시, ID) 커서로 배치 단위로 읽어 바로 출력하고, 배치마다 영속성 컨텍스트를 비워 메모리 사용량을 일정하게 유지한다.
+// 배치마다 짧은 읽기 트랜잭션으로 읽으므로(저장소 기본 트랜잭션) 느린 클라이언트에 출력하는 동안에는 DB 연결을 잡고 있지 않는다.
+@Service
+@RequiredArgsConstructor
+public class BoardExportService {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final BoardRepository boardRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public void exportNdjson(Long categoryId, Writer writer) throws IOException {
+        Pageable limit = PageRequest.of(0, BATCH_SIZE);
+        Slice<Board> batch = boardRepository.findLatestByCategory(categoryId, limit);
+        while (true) {
+            Board last = null;
+            for (Board board : batch) {
+                writer.write(objectMapper.writeValueAsString(BoardResponse.from(board)));
+                writer.write('\n');
+                last = board;
+            }
+            writer.flush();
+            entityManager.clear();
+
+            if (!batch.hasNext() || last == null) {
+                break;
+            }
+            batch = boardRepository.findLatestByCategoryBefore(categoryId, last.getCreatedAt(), last.getId(), limit);
+        }
+    }
+}
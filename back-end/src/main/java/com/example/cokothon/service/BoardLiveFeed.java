@@ -0,0 +1,280 @@
+package com.example.cokothon.service;
+
+import com.example.cokothon.dto.BoardResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 카테고리별 게시글 실시간 피드 (Server-Sent Events)
+// 대기 중인 구독자는 서블릿 비동기 요청으로만 남아 스레드나 쿼리를 쓰지 않는다.
+// 게시글 변경이 커밋되면 응답을 한 번만 만들어 구독자별 제한된 버퍼에 넣고, 전송 스레드가 구독자별로 비운다.
+// 버퍼가 차면 같은 게시글의 이전 이벤트를 합치고, 그래도 넘치면 가장 오래된 이벤트를 버린 뒤 overflow 이벤트로 알린다.
+// SseEmitter.send는 소켓이 막히면 그대로 멈추므로, 전송 스레드는 필요한 만큼 늘어나고(최대 max-dispatch-threads)
+// 한 번의 전송이 send-timeout을 넘긴 구독자는 연결을 끊는다. 느린 클라이언트는 자기 스레드 하나만 붙잡고 다른 구독자를 막지 않는다.
+@Component
+@Slf4j
+public class BoardLiveFeed {
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService dispatcher;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final long sendTimeoutNanos;
+
+    public BoardLiveFeed(@Value("${board.live.buffer-size:32}") int bufferSize,
+                         @Value("${board.live.timeout:30m}") Duration timeout,
+                         @Value("${board.live.dispatch-threads:2}") int dispatchThreads,
+                         @Value("${board.live.max-dispatch-threads:64}") int maxDispatchThreads,
+                         @Value("${board.live.send-timeout:5s}") Duration sendTimeout) {
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeout.toMillis();
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        AtomicInteger threadNumber = new AtomicInteger();
+        // 대기열 없이 바로 스레드에 넘기고, 모두 바쁘면 거절해 이벤트는 버퍼에 남긴다 (다음 offer에서 다시 시도)
+        this.dispatcher = new ThreadPoolExecutor(dispatchThreads, Math.max(dispatchThreads, maxDispatchThreads),
+                60, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "board-live-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public SseEmitter subscribe(Long categoryId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(categoryId, emitter);
+        subscribers.computeIfAbsent(categoryId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(error -> unsubscribe(subscriber));
+
+        // 연결 직후 응답 헤더가 나가도록 첫 heartbeat를 보낸다
+        subscriber.offer(LiveEvent.HEARTBEAT);
+        return emitter;
+    }
+
+    public int countSubscribers() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    // 커밋된 게시글 변경을 해당 카테고리 구독자에게 전달 (카테고리를 옮긴 경우 이전 카테고리에는 삭제로 전달)
+    @TransactionalEventListener
+    public void onBoardChanged(BoardChangedEvent event) {
+        BoardResponse payload = BoardResponse.from(event.getBoard());
+        Long categoryId = event.getBoard().getCategory().getId();
+        String name = event.getType().name().toLowerCase();
+
+        publish(categoryId, new LiveEvent(name, event.getBoardId(), payload));
+        if (event.getType() == BoardChangedEvent.Type.UPDATED
+                && event.getPreviousCategoryId() != null
+                && !event.getPreviousCategoryId().equals(categoryId)) {
+            publish(event.getPreviousCategoryId(), new LiveEvent("deleted", event.getBoardId(), payload));
+        }
+    }
+
+    // 끊긴 연결 정리 + 프록시가 유휴 연결을 닫지 않도록 주기적으로 주석 이벤트 전송
+    @Scheduled(fixedDelayString = "${board.live.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        for (Set<Subscriber> categorySubscribers : subscribers.values()) {
+            for (Subscriber subscriber : categorySubscribers) {
+                subscriber.offer(LiveEvent.HEARTBEAT);
+            }
+        }
+    }
+
+    // 전송이 send-timeout을 넘긴 구독자 연결 끊기
+    // emitter.completeWithError는 막힌 send와 같은 잠금을 기다리므로 여기서는 부르지 않고,
+    // 구독을 해제한 뒤 전송 스레드를 인터럽트해 그 스레드가 전송 실패로 연결을 정리하게 한다.
+    @Scheduled(fixedDelayString = "${board.live.stall-check-interval-ms:1000}")
+    public void disconnectStalled() {
+        long now = System.nanoTime();
+        for (Set<Subscriber> categorySubscribers : subscribers.values()) {
+            for (Subscriber subscriber : categorySubscribers) {
+                Thread sender = subscriber.sender;
+                if (sender != null && now - subscriber.sendStartedAt > sendTimeoutNanos) {
+                    log.debug("실시간 피드 전송 지연으로 연결 종료: 카테고리 {}", subscriber.categoryId);
+                    subscriber.markClosed();
+                    subscriber.interruptSender(sender);
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        for (Set<Subscriber> categorySubscribers : subscribers.values()) {
+            for (Subscriber subscriber : categorySubscribers) {
+                subscriber.emitter.complete();
+            }
+        }
+        subscribers.clear();
+    }
+
+    private void publish(Long categoryId, LiveEvent event) {
+        Set<Subscriber> categorySubscribers = subscribers.get(categoryId);
+        if (categorySubscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : categorySubscribers) {
+            subscriber.offer(event);
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.categoryId, (id, categorySubscribers) -> {
+            categorySubscribers.remove(subscriber);
+            return categorySubscribers.isEmpty() ? null : categorySubscribers;
+        });
+    }
+
+    // boardId가 null이면 heartbeat
+    private record LiveEvent(String name, Long boardId, BoardResponse payload) {
+        static final LiveEvent HEARTBEAT = new LiveEvent(null, null, null);
+    }
+
+    private final class Subscriber {
+        private final Long categoryId;
+        private final SseEmitter emitter;
+
+        // 아래 필드는 this로 동기화
+        private final ArrayDeque<LiveEvent> buffer = new ArrayDeque<>();
+        private boolean draining;
+        private boolean closed;
+        private int dropped;
+
+        // 전송 중인 스레드와 전송 시작 시각 (전송 중이 아니면 sender는 null)
+        private volatile Thread sender;
+        private volatile long sendStartedAt;
+
+        private Subscriber(Long categoryId, SseEmitter emitter) {
+            this.categoryId = categoryId;
+            this.emitter = emitter;
+        }
+
+        private void offer(LiveEvent event) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (!coalesce(event)) {
+                    if (buffer.size() >= bufferSize) {
+                        buffer.pollFirst();
+                        dropped++;
+                    }
+                    buffer.addLast(event);
+                }
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            }
+            try {
+                dispatcher.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                synchronized (this) {
+                    draining = false;
+                }
+            }
+        }
+
+        // 같은 게시글(또는 heartbeat)이 이미 대기 중이면 그 자리를 최신 이벤트로 바꾼다
+        private boolean coalesce(LiveEvent event) {
+            for (Iterator<LiveEvent> it = buffer.iterator(); it.hasNext(); ) {
+                LiveEvent queued = it.next();
+                if (event.boardId() == null ? queued.boardId() == null : event.boardId().equals(queued.boardId())) {
+                    if (event.boardId() == null) {
+                        return true;
+                    }
+                    it.remove();
+                    buffer.addLast(event);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void drain() {
+            while (true) {
+                LiveEvent event;
+                int overflow;
+                synchronized (this) {
+                    event = closed ? null : buffer.pollFirst();
+                    if (event == null) {
+                        draining = false;
+                        return;
+                    }
+                    overflow = dropped;
+                    dropped = 0;
+                    sendStartedAt = System.nanoTime();
+                    sender = Thread.currentThread();
+                }
+
+                try {
+                    if (overflow > 0) {
+                        emitter.send(SseEmitter.event().name("overflow").data(overflow));
+                    }
+                    send(event);
+                } catch (IOException | IllegalStateException e) {
+                    // 클라이언트가 떠났거나 전송 지연으로 끊긴 연결 - 이후 이벤트는 버린다
+                    markClosed();
+                    emitter.completeWithError(e);
+                    return;
+                } finally {
+                    // 다른 구독자 전송에 인터럽트가 새지 않도록 잠금 안에서 지운다
+                    synchronized (this) {
+                        sender = null;
+                        Thread.interrupted();
+                    }
+                }
+            }
+        }
+
+        // 구독 해제 + 이후 이벤트 버림
+        private void markClosed() {
+            unsubscribe(this);
+            synchronized (this) {
+                closed = true;
+                buffer.clear();
+            }
+        }
+
+        private void interruptSender(Thread expected) {
+            synchronized (this) {
+                if (sender == expected) {
+                    expected.interrupt();
+                }
+            }
+        }
+
+        private void send(LiveEvent event) throws IOException {
+            if (event.boardId() == null) {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+                return;
+            }
+            emitter.send(SseEmitter.event()
+                    .name(event.name())
+                    .id(String.valueOf(event.boardId()))
+                    .data(event.payload(), MediaType.APPLICATION_JSON));
+        }
+    }
+}
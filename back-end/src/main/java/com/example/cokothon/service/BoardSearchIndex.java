@@ -0,0 +1,195 @@
+package com.example.cokothon.service;
+
+import com.example.cokothon.entity.Board;
+import com.example.cokothon.repository.BoardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+// 게시글 제목/내용 검색용 역색인 (문자 bigram + 위치 정보)
+// 한글처럼 띄어쓰기 단위 토큰화가 어려운 텍스트도 부분 문자열 검색이 가능하다.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BoardSearchIndex {
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    // 필드 끝 표시 문자 - 모든 글자가 어떤 bigram의 첫 글자가 되도록 붙인다
+    private static final char FIELD_END = '\u0000';
+
+    private final BoardRepository boardRepository;
+
+    // bigram -> (게시글 ID -> 등장 위치 목록(오름차순))
+    private final ConcurrentSkipListMap<String, Map<Long, int[]>> postings = new ConcurrentSkipListMap<>();
+
+    // 게시글 ID -> 색인된 문서 정보 (정렬 및 삭제 시 postings 정리용)
+    private final Map<Long, IndexedDocument> documents = new ConcurrentHashMap<>();
+
+    private static final Comparator<IndexedDocument> NEWEST_FIRST = Comparator
+            .comparing(IndexedDocument::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(IndexedDocument::id, Comparator.reverseOrder());
+
+    // 웹 서버가 요청을 받기 전에 전체 게시글로 색인 구성
+    @EventListener(StartupRebuildEvent.class)
+    public void rebuild() {
+        long lastId = 0L;
+        int count = 0;
+        Slice<Board> batch;
+        do {
+            batch = boardRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            for (Board board : batch) {
+                index(board);
+                lastId = board.getId();
+                count++;
+            }
+        } while (batch.hasNext());
+        log.info("게시글 검색 색인 구성 완료: 게시글 {}개, bigram {}개", count, postings.size());
+    }
+
+    // 커밋된 게시글 변경 사항을 색인에 반영
+    @TransactionalEventListener
+    public void onBoardChanged(BoardChangedEvent event) {
+        if (event.getType() == BoardChangedEvent.Type.DELETED) {
+            remove(event.getBoardId());
+        } else {
+            index(event.getBoard());
+        }
+    }
+
+    public synchronized void index(Board board) {
+        remove(board.getId());
+
+        String text = normalize(board.getTitle()) + FIELD_END + normalize(board.getContent()) + FIELD_END;
+        Map<String, List<Integer>> positions = new HashMap<>();
+        for (int i = 0; i < text.length() - 1; i++) {
+            if (text.charAt(i) == FIELD_END) {
+                continue;
+            }
+            positions.computeIfAbsent(text.substring(i, i + 2), gram -> new ArrayList<>()).add(i);
+        }
+
+        Long id = board.getId();
+        for (Map.Entry<String, List<Integer>> entry : positions.entrySet()) {
+            int[] sorted = entry.getValue().stream().mapToInt(Integer::intValue).toArray();
+            postings.computeIfAbsent(entry.getKey(), gram -> new ConcurrentHashMap<>()).put(id, sorted);
+        }
+        documents.put(id, new IndexedDocument(id, board.getCreatedAt(), positions.keySet().toArray(new String[0])));
+    }
+
+    public synchronized void remove(Long id) {
+        IndexedDocument document = documents.remove(id);
+        if (document == null) {
+            return;
+        }
+        for (String gram : document.grams()) {
+            postings.computeIfPresent(gram, (key, docs) -> {
+                docs.remove(id);
+                return docs.isEmpty() ? null : docs;
+            });
+        }
+    }
+
+    // 검색어를 포함하는 게시글 ID 목록 (최신순)
+    public List<Long> search(String keyword) {
+        String query = normalize(keyword).strip();
+        if (query.isEmpty()) {
+            return List.of();
+        }
+
+        Collection<Long> matches = query.length() == 1
+                ? matchSingleChar(query)
+                : matchPhrase(query);
+
+        return matches.stream()
+                .map(documents::get)
+                .filter(document -> document != null)
+                .sorted(NEWEST_FIRST)
+                .map(IndexedDocument::id)
+                .toList();
+    }
+
+    // 한 글자 검색: 해당 글자로 시작하는 bigram의 게시글 합집합
+    private Collection<Long> matchSingleChar(String query) {
+        Set<Long> result = new HashSet<>();
+        for (Map<Long, int[]> docs : postings.subMap(query, true, query + Character.MAX_VALUE, true).values()) {
+            result.addAll(docs.keySet());
+        }
+        return result;
+    }
+
+    // 두 글자 이상 검색: 가장 짧은 posting 목록을 기준으로 연속 위치를 확인
+    private Collection<Long> matchPhrase(String query) {
+        int gramCount = query.length() - 1;
+        List<Map<Long, int[]>> gramPostings = new ArrayList<>(gramCount);
+        int driver = 0;
+        for (int i = 0; i < gramCount; i++) {
+            Map<Long, int[]> docs = postings.get(query.substring(i, i + 2));
+            if (docs == null) {
+                return List.of();
+            }
+            gramPostings.add(docs);
+            if (docs.size() < gramPostings.get(driver).size()) {
+                driver = i;
+            }
+        }
+
+        List<Long> result = new ArrayList<>();
+        for (Map.Entry<Long, int[]> candidate : gramPostings.get(driver).entrySet()) {
+            if (containsPhrase(candidate.getKey(), candidate.getValue(), driver, gramPostings)) {
+                result.add(candidate.getKey());
+            }
+        }
+        return result;
+    }
+
+    private boolean containsPhrase(Long id, int[] driverPositions, int driver, List<Map<Long, int[]>> gramPostings) {
+        int[][] positions = new int[gramPostings.size()][];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = gramPostings.get(i).get(id);
+            if (positions[i] == null) {
+                return false;
+            }
+        }
+
+        for (int driverPosition : driverPositions) {
+            int start = driverPosition - driver;
+            boolean matched = true;
+            for (int i = 0; i < positions.length && matched; i++) {
+                matched = Arrays.binarySearch(positions[i], start + i) >= 0;
+            }
+            if (matched) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.replace(FIELD_END, ' ').toLowerCase(Locale.ROOT);
+    }
+
+    private record IndexedDocument(Long id, LocalDateTime createdAt, String[] grams) {
+    }
+}
@@ -1,37 +1,70 @@
 package com.example.cokothon.service;
 
 import com.example.cokothon.dto.BoardCreateRequest;
+import com.example.cokothon.dto.BoardResponse;
+import com.example.cokothon.dto.BoardSuggestionResponse;
+import com.example.cokothon.dto.BoardSummaryResponse;
 import com.example.cokothon.entity.Board;
 import com.example.cokothon.entity.Category;
-import com.example.cokothon.entity.User;
 import com.example.cokothon.repository.BoardRepository;
+import com.example.cokothon.repository.UserRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class BoardService {
     
+    // 일괄 등록 시 flush 단위 (hibernate.jdbc.batch_size와 맞춤)
+    private static final int BULK_FLUSH_SIZE = 50;
+    
+    // 커서 조회 한 번에 가져올 수 있는 최대 개수
+    private static final int MAX_SCROLL_SIZE = 100;
+    
     private final BoardRepository boardRepository;
+    private final UserRepository userRepository;
     private final CategoryService categoryService;
+    private final BoardSearchIndex boardSearchIndex;
+    private final BoardViewCounter boardViewCounter;
+    private final BoardCache boardCache;
+    private final BoardTrendingRanking boardTrendingRanking;
+    private final BoardTitleSuggester boardTitleSuggester;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
     
-    // 전체 게시글 조회 (페이징)
-    public Page<Board> findAllBoards(Pageable pageable) {
-        return boardRepository.findAllByOrderByCreatedAtDesc(pageable);
+    // 전체 게시글 조회 (페이징 - 전체 개수는 카테고리별 게시글 수 합계 사용, 앞쪽 페이지는 캐시)
+    public Page<BoardSummaryResponse> findAllBoards(Pageable pageable) {
+        return boardCache.getPage(null, pageable, () -> {
+            Slice<BoardSummaryResponse> boards = boardRepository.findLatestSummaries(pageable);
+            return new PageImpl<>(boards.getContent(), pageable, categoryService.countAllBoards());
+        });
     }
     
-    // 카테고리별 게시글 조회 (페이징)
-    public Page<Board> findBoardsByCategory(Long categoryId, Pageable pageable) {
-        Category category = categoryService.findById(categoryId)
-                .orElseThrow(() -> new IllegalArgumentException("카테고리를 찾을 수 없습니다."));
-        return boardRepository.findByCategoryOrderByCreatedAtDesc(category, pageable);
+    // 카테고리별 게시글 조회 (페이징 - 전체 개수는 카테고리의 게시글 수 사용, 앞쪽 페이지는 캐시)
+    public Page<BoardSummaryResponse> findBoardsByCategory(Long categoryId, Pageable pageable) {
+        return boardCache.getPage(categoryId, pageable, () -> {
+            int boardCount = categoryService.getBoardCount(categoryId);
+            Slice<BoardSummaryResponse> boards = boardRepository.findLatestSummariesByCategory(categoryId, pageable);
+            return new PageImpl<>(boards.getContent(), pageable, boardCount);
+        });
     }
     
     // 카테고리별 게시글 조회 (리스트)
@@ -41,18 +74,45 @@ public class BoardService {
         return boardRepository.findByCategoryOrderByCreatedAtDesc(category);
     }
     
+    // 전체 게시글 커서 조회 (count 쿼리 없이 다음 위치부터)
+    public Slice<BoardSummaryResponse> scrollBoards(String cursor, int size) {
+        Pageable limit = scrollLimit(size);
+        if (cursor == null || cursor.isBlank()) {
+            return boardRepository.findLatestSummaries(limit);
+        }
+        BoardCursor position = BoardCursor.decode(cursor);
+        return boardRepository.findLatestSummariesBefore(position.createdAt(), position.id(), limit);
+    }
+    
+    // 카테고리별 게시글 커서 조회
+    public Slice<BoardSummaryResponse> scrollBoardsByCategory(Long categoryId, String cursor, int size) {
+        categoryService.findById(categoryId)
+                .orElseThrow(() -> new IllegalArgumentException("카테고리를 찾을 수 없습니다."));
+        Pageable limit = scrollLimit(size);
+        if (cursor == null || cursor.isBlank()) {
+            return boardRepository.findLatestSummariesByCategory(categoryId, limit);
+        }
+        BoardCursor position = BoardCursor.decode(cursor);
+        return boardRepository.findLatestSummariesByCategoryBefore(categoryId, position.createdAt(), position.id(), limit);
+    }
+    
     // 게시글 상세 조회
     public Optional<Board> findById(Long id) {
         return boardRepository.findById(id);
     }
     
-    // 게시글 상세 조회 (조회수 증가)
-    @Transactional
-    public Board findByIdWithViewCount(Long id) {
-        Board board = boardRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
-        board.incrementViewCount();
-        return boardRepository.save(board);
+    // 게시글 상세 조회 (캐시 우선, 조회수 증가는 메모리에 모았다가 주기적으로 반영)
+    public BoardResponse findByIdWithViewCount(Long id) {
+        BoardResponse cached = boardCache.getDetail(id, key -> boardRepository.findWithCategoryById(key)
+                .map(BoardResponse::from)
+                .orElse(null));
+        if (cached == null) {
+            throw new IllegalArgumentException("게시글을 찾을 수 없습니다.");
+        }
+        
+        boardViewCounter.increment(id);
+        int persisted = cached.getViewCount() != null ? cached.getViewCount() : 0;
+        return cached.withViewCount(persisted + (int) boardViewCounter.getPending(id));
     }
     
     // 게시글 생성 (기존 방식 - 작성자명 직접 입력)
@@ -63,17 +123,52 @@ public class BoardService {
         
         Board board = new Board(request.getTitle(), request.getContent(), 
                                request.getAuthor(), category);
-        return boardRepository.save(board);
+        Board saved = boardRepository.save(board);
+        categoryService.adjustBoardCount(category.getId(), 1);
+        eventPublisher.publishEvent(new BoardChangedEvent(BoardChangedEvent.Type.CREATED, saved, null));
+        return saved;
     }
     
-    // 게시글 생성 (로그인된 사용자)
+    // 게시글 생성 (로그인된 사용자 - 작성자 정보는 세션 값을 사용해 사용자 조회 없이 저장)
     @Transactional
-    public Board createBoard(BoardCreateRequest request, User user) {
+    public Board createBoard(BoardCreateRequest request, SessionPrincipal principal) {
         Category category = categoryService.findById(request.getCategoryId())
                 .orElseThrow(() -> new IllegalArgumentException("카테고리를 찾을 수 없습니다."));
         
-        Board board = new Board(request.getTitle(), request.getContent(), user, category);
-        return boardRepository.save(board);
+        Board board = new Board(request.getTitle(), request.getContent(), principal.name(), category);
+        board.setUser(userRepository.getReferenceById(principal.id()));
+        board.setIsAdminPost(principal.admin());
+        Board saved = boardRepository.save(board);
+        categoryService.adjustBoardCount(category.getId(), 1);
+        eventPublisher.publishEvent(new BoardChangedEvent(BoardChangedEvent.Type.CREATED, saved, null));
+        return saved;
+    }
+    
+    // 게시글 일괄 등록 (insert를 JDBC 배치로 묶고, flush 단위마다 영속성 컨텍스트를 비움)
+    @Transactional
+    public int createBoards(List<BoardCreateRequest> requests) {
+        Map<Long, Integer> addedByCategory = new HashMap<>();
+        List<Board> created = new ArrayList<>(requests.size());
+        for (BoardCreateRequest request : requests) {
+            Category category = categoryService.findById(request.getCategoryId())
+                    .orElseThrow(() -> new IllegalArgumentException("카테고리를 찾을 수 없습니다: " + request.getCategoryId()));
+            
+            Board board = new Board(request.getTitle(), request.getContent(), request.getAuthor(), category);
+            boardRepository.save(board);
+            created.add(board);
+            addedByCategory.merge(category.getId(), 1, Integer::sum);
+            
+            if (created.size() % BULK_FLUSH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        
+        addedByCategory.forEach(categoryService::adjustBoardCount);
+        for (Board board : created) {
+            eventPublisher.publishEvent(new BoardChangedEvent(BoardChangedEvent.Type.CREATED, board, null));
+        }
+        return created.size();
     }
     
     // 게시글 수정
@@ -85,23 +180,75 @@ public class BoardService {
         Category category = categoryService.findById(request.getCategoryId())
                 .orElseThrow(() -> new IllegalArgumentException("카테고리를 찾을 수 없습니다."));
         
+        Long previousCategoryId = board.getCategory().getId();
         board.setTitle(request.getTitle());
         board.setContent(request.getContent());
         board.setCategory(category);
         
-        return boardRepository.save(board);
+        Board saved = boardRepository.save(board);
+        if (!previousCategoryId.equals(category.getId())) {
+            categoryService.adjustBoardCount(previousCategoryId, -1);
+            categoryService.adjustBoardCount(category.getId(), 1);
+        }
+        eventPublisher.publishEvent(new BoardChangedEvent(BoardChangedEvent.Type.UPDATED, saved, previousCategoryId));
+        return saved;
     }
     
     // 게시글 삭제
     @Transactional
     public void deleteBoard(Long id) {
-        Board board = boardRepository.findById(id)
+        // 삭제 이벤트 구독자가 카테고리 정보를 쓰므로 함께 조회
+        Board board = boardRepository.findWithCategoryById(id)
                 .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
+        Long categoryId = board.getCategory().getId();
         boardRepository.delete(board);
+        categoryService.adjustBoardCount(categoryId, -1);
+        eventPublisher.publishEvent(new BoardChangedEvent(BoardChangedEvent.Type.DELETED, board, categoryId));
+    }
+    
+    // 인기 게시글 (categoryId가 null이면 전체, 순위 구조에서 ID를 얻은 뒤 한 번에 조회)
+    public List<BoardSummaryResponse> findTrendingBoards(Long categoryId, int size) {
+        if (categoryId != null) {
+            categoryService.findById(categoryId)
+                    .orElseThrow(() -> new IllegalArgumentException("카테고리를 찾을 수 없습니다."));
+        }
+        return findInOrder(boardTrendingRanking.top(categoryId, size));
+    }
+    
+    // 제목 자동완성 (자모 단위 접두어, 조회수 순)
+    public List<BoardSuggestionResponse> suggestTitles(String prefix, int size) {
+        return boardTitleSuggester.suggest(prefix, size);
+    }
+    
+    // 검색 (역색인으로 대상 ID를 찾은 뒤 현재 페이지만 조회)
+    public Page<BoardSummaryResponse> searchBoards(String keyword, Pageable pageable) {
+        List<Long> matchedIds = boardSearchIndex.search(keyword);
+        int from = (int) Math.min(pageable.getOffset(), matchedIds.size());
+        int to = Math.min(from + pageable.getPageSize(), matchedIds.size());
+        List<Long> pageIds = matchedIds.subList(from, to);
+        
+        if (pageIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, matchedIds.size());
+        }
+        
+        return new PageImpl<>(findInOrder(pageIds), pageable, matchedIds.size());
+    }
+    
+    // 커서 조회 개수는 1 ~ MAX_SCROLL_SIZE로 맞춘다
+    private static Pageable scrollLimit(int size) {
+        return PageRequest.of(0, Math.min(Math.max(size, 1), MAX_SCROLL_SIZE));
     }
     
-    // 검색
-    public Page<Board> searchBoards(String keyword, Pageable pageable) {
-        return boardRepository.findByTitleOrContentContaining(keyword, pageable);
+    // ID 목록 순서대로 게시글 요약 조회 (한 번의 IN 쿼리)
+    private List<BoardSummaryResponse> findInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, BoardSummaryResponse> boards = boardRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(BoardSummaryResponse::getId, Function.identity()));
+        return ids.stream()
+                .map(boards::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 }
@@ -0,0 +1,334 @@
+package com.example.cokothon.service;
+
+import com.example.cokothon.dto.BoardSuggestionResponse;
+import com.example.cokothon.entity.Board;
+import com.example.cokothon.repository.BoardRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 게시글 제목 자동완성 (자모 단위 압축 트라이)
+// 제목의 각 단어 시작 위치부터의 문자열을 자모로 풀어 키로 넣고,
+// 노드마다 하위 트리에서 조회수가 가장 높은 게시글 N개를 미리 들고 있어 조회는 접두어 길이만큼만 내려가면 된다.
+// 자동완성 조회는 읽기 잠금만 잡고, 조회수는 요청마다가 아니라 조회수 flush 증가분으로 모아서 쓰기 잠금 한 번에 반영한다.
+@Component
+@Slf4j
+public class BoardTitleSuggester {
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    // 키 최대 길이 (자모 수) - 긴 제목이 트라이를 과도하게 키우지 않도록 제한
+    private static final int MAX_KEY_LENGTH = 64;
+
+    private final BoardRepository boardRepository;
+    private final int maxSuggestions;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Node root = new Node("");
+
+    // 게시글 ID -> 색인된 제목 정보
+    private final Map<Long, Document> documents = new HashMap<>();
+
+    private final Comparator<Long> mostViewedFirst = Comparator
+            .comparingLong((Long id) -> documents.get(id).views)
+            .reversed()
+            .thenComparing(Comparator.reverseOrder());
+
+    public BoardTitleSuggester(BoardRepository boardRepository,
+                               @Value("${board.suggest.max-size:10}") int maxSuggestions) {
+        this.boardRepository = boardRepository;
+        this.maxSuggestions = maxSuggestions;
+    }
+
+    // 웹 서버가 요청을 받기 전에 전체 게시글 제목으로 구성
+    @EventListener(StartupRebuildEvent.class)
+    public void rebuild() {
+        long lastId = 0L;
+        int count = 0;
+        Slice<Board> batch;
+        do {
+            batch = boardRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            for (Board board : batch) {
+                index(board);
+                lastId = board.getId();
+                count++;
+            }
+        } while (batch.hasNext());
+        log.info("게시글 제목 자동완성 색인 구성 완료: 게시글 {}개", count);
+    }
+
+    @TransactionalEventListener
+    public void onBoardChanged(BoardChangedEvent event) {
+        if (event.getType() == BoardChangedEvent.Type.DELETED) {
+            remove(event.getBoardId());
+        } else {
+            index(event.getBoard());
+        }
+    }
+
+    public void index(Board board) {
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.get(board.getId());
+            long views = board.getViewCount() != null ? board.getViewCount() : 0L;
+            if (previous != null) {
+                views = Math.max(views, previous.views);
+                if (previous.title.equals(board.getTitle())) {
+                    previous.categoryId = board.getCategory().getId();
+                    return;
+                }
+                remove(board.getId());
+            }
+
+            Document document = new Document(board.getTitle(), board.getCategory().getId(), keysOf(board.getTitle()), views);
+            documents.put(board.getId(), document);
+            for (String key : document.keys) {
+                insert(key, board.getId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            Document document = documents.get(id);
+            if (document == null) {
+                return;
+            }
+            for (String key : document.keys) {
+                delete(key, id);
+            }
+            documents.remove(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 조회수 flush - 조회수가 늘어난 게시글을 경로상의 상위 목록에 반영 (그 사이 삭제된 게시글은 무시)
+    @EventListener
+    public void onViewsFlushed(BoardViewsFlushedEvent event) {
+        lock.writeLock().lock();
+        try {
+            for (Map.Entry<Long, Long> views : event.getViews().entrySet()) {
+                Long id = views.getKey();
+                Document document = documents.get(id);
+                if (document == null) {
+                    continue;
+                }
+                document.views += views.getValue();
+                for (String key : document.keys) {
+                    Node node = root;
+                    int position = 0;
+                    promote(node, id);
+                    while (position < key.length()) {
+                        node = node.children.get(key.charAt(position));
+                        position += node.label.length();
+                        promote(node, id);
+                    }
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 접두어로 시작하는 단어가 제목에 있는 게시글 (조회수 내림차순)
+    public List<BoardSuggestionResponse> suggest(String prefix, int size) {
+        String key = HangulJamo.normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            key = key.substring(0, MAX_KEY_LENGTH);
+        }
+
+        lock.readLock().lock();
+        try {
+            return suggestLocked(key, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<BoardSuggestionResponse> suggestLocked(String key, int size) {
+        Node node = root;
+        int position = 0;
+        while (position < key.length()) {
+            Node child = node.children.get(key.charAt(position));
+            if (child == null) {
+                return List.of();
+            }
+            int matched = commonPrefixLength(child.label, key, position);
+            if (matched < child.label.length() && position + matched < key.length()) {
+                return List.of();
+            }
+            position += matched;
+            node = child;
+        }
+
+        List<BoardSuggestionResponse> result = new ArrayList<>();
+        for (Long id : node.top) {
+            if (result.size() >= size) {
+                break;
+            }
+            Document document = documents.get(id);
+            result.add(new BoardSuggestionResponse(id, document.title, document.categoryId, document.views));
+        }
+        return result;
+    }
+
+    private void insert(String key, Long id) {
+        Node node = root;
+        int position = 0;
+        promote(node, id);
+        while (position < key.length()) {
+            char first = key.charAt(position);
+            Node child = node.children.get(first);
+            if (child == null) {
+                Node leaf = new Node(key.substring(position));
+                leaf.terminals.add(id);
+                leaf.top.add(id);
+                node.children.put(first, leaf);
+                return;
+            }
+
+            int matched = commonPrefixLength(child.label, key, position);
+            if (matched < child.label.length()) {
+                child = split(node, child, matched);
+            }
+            position += matched;
+            node = child;
+            promote(node, id);
+        }
+        node.terminals.add(id);
+    }
+
+    private void delete(String key, Long id) {
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int position = 0;
+        while (position < key.length()) {
+            node = node.children.get(key.charAt(position));
+            if (node == null) {
+                return;
+            }
+            position += node.label.length();
+            path.add(node);
+        }
+        node.terminals.remove(id);
+
+        // 아래에서부터 상위 목록을 다시 계산하고, 비어버린 노드는 떼어낸다
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node current = path.get(i);
+            if (i > 0 && current.terminals.isEmpty() && current.children.isEmpty()) {
+                path.get(i - 1).children.remove(current.label.charAt(0));
+                continue;
+            }
+            recompute(current, id);
+        }
+    }
+
+    // 자식 노드의 목록과 이 노드에서 끝나는 게시글로 상위 목록을 다시 만든다
+    private void recompute(Node node, Long removedId) {
+        Set<Long> candidates = new LinkedHashSet<>(node.terminals);
+        for (Node child : node.children.values()) {
+            candidates.addAll(child.top);
+        }
+        candidates.remove(removedId);
+        List<Long> sorted = new ArrayList<>(candidates);
+        sorted.sort(mostViewedFirst);
+        node.top = new ArrayList<>(sorted.subList(0, Math.min(maxSuggestions, sorted.size())));
+    }
+
+    // 점수가 오른(또는 새로 들어온) 게시글을 노드의 상위 목록에 반영
+    private void promote(Node node, Long id) {
+        List<Long> top = node.top;
+        if (!top.remove(id) && top.size() >= maxSuggestions) {
+            Long lowest = top.get(top.size() - 1);
+            if (mostViewedFirst.compare(id, lowest) >= 0) {
+                return;
+            }
+            top.remove(top.size() - 1);
+        }
+        int index = Collections.binarySearch(top, id, mostViewedFirst);
+        top.add(index < 0 ? -index - 1 : index, id);
+    }
+
+    // 간선 레이블을 matched 위치에서 나눈다
+    private Node split(Node parent, Node child, int matched) {
+        Node middle = new Node(child.label.substring(0, matched));
+        child.label = child.label.substring(matched);
+        middle.children.put(child.label.charAt(0), child);
+        middle.top = new ArrayList<>(child.top);
+        parent.children.put(middle.label.charAt(0), middle);
+        return middle;
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int limit = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < limit && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    // 제목의 각 단어 시작 위치부터의 자모 문자열
+    private static Set<String> keysOf(String title) {
+        String normalized = HangulJamo.normalize(title);
+        Set<String> keys = new HashSet<>();
+        for (int i = 0; i < normalized.length(); i++) {
+            if (i == 0 || normalized.charAt(i - 1) == ' ') {
+                String key = normalized.substring(i);
+                keys.add(key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key);
+            }
+        }
+        return keys;
+    }
+
+    private static final class Node {
+        private String label;
+        private final Map<Character, Node> children = new HashMap<>();
+        private final Set<Long> terminals = new HashSet<>();
+        // 하위 트리에서 조회수 상위 게시글 ID (내림차순)
+        private List<Long> top = new ArrayList<>();
+
+        private Node(String label) {
+            this.label = label;
+        }
+    }
+
+    private static final class Document {
+        private final String title;
+        private Long categoryId;
+        private final Set<String> keys;
+        private long views;
+
+        private Document(String title, Long categoryId, Set<String> keys, long views) {
+            this.title = title;
+            this.categoryId = categoryId;
+            this.keys = keys;
+            this.views = views;
+        }
+    }
+}
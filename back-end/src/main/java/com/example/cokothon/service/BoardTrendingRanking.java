@@ -0,0 +1,262 @@
+package com.example.cokothon.service;
+
+import com.example.cokothon.entity.Board;
+import com.example.cokothon.repository.BoardRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+// 인기 게시글 순위 (조회수 + 작성에 시간 지수 감쇠를 적용한 점수, 전체 / 카테고리별 상위 K개)
+// 점수는 기준 시각(landmark) 대비 가중치 e^(λ(t - landmark))를 더하는 방식(forward decay)이라
+// 시간이 지나도 기존 점수를 다시 계산할 필요가 없고, 주기적으로 기준 시각을 옮겨 값이 커지는 것만 막는다.
+// 점수는 증가만 하므로 범위별 최소 힙(크기 K)으로 상위 K개를 유지할 수 있다.
+// 조회는 요청마다 반영하지 않고 조회수 flush(BoardViewsFlushedEvent)의 증가분으로 모아서 반영한다.
+@Component
+@Slf4j
+public class BoardTrendingRanking {
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private static final Comparator<Entry> LOWEST_FIRST = Comparator
+            .comparingDouble((Entry entry) -> entry.score)
+            .thenComparing(entry -> entry.boardId, Comparator.reverseOrder());
+
+    private final BoardRepository boardRepository;
+    private final double lambda;
+    private final int capacity;
+    private final double creationWeight;
+
+    // 게시글 ID -> 점수
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    // 전체 순위
+    private final TopK global;
+
+    // 카테고리 ID -> 카테고리 순위
+    private final Map<Long, TopK> byCategory = new HashMap<>();
+
+    // 가중치 계산 기준 시각 (epoch 초)
+    private double landmark;
+
+    public BoardTrendingRanking(BoardRepository boardRepository,
+                                @Value("${board.trending.half-life:6h}") Duration halfLife,
+                                @Value("${board.trending.capacity:100}") int capacity,
+                                @Value("${board.trending.creation-weight:1.0}") double creationWeight) {
+        this.boardRepository = boardRepository;
+        this.lambda = Math.log(2) / halfLife.toSeconds();
+        this.capacity = capacity;
+        this.creationWeight = creationWeight;
+        this.global = new TopK(capacity);
+        this.landmark = nowSeconds();
+    }
+
+    // 웹 서버가 요청을 받기 전에 저장된 조회수로 순위 구성 (조회는 작성 시각에 일어난 것으로 간주)
+    @EventListener(StartupRebuildEvent.class)
+    public void rebuild() {
+        long lastId = 0L;
+        int count = 0;
+        Slice<Board> batch;
+        do {
+            batch = boardRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            for (Board board : batch) {
+                int views = board.getViewCount() != null ? board.getViewCount() : 0;
+                add(board.getId(), board.getCategory().getId(), creationWeight + views, toSeconds(board.getCreatedAt()));
+                lastId = board.getId();
+                count++;
+            }
+        } while (batch.hasNext());
+        log.info("인기 게시글 순위 구성 완료: 게시글 {}개", count);
+    }
+
+    // 조회수 flush마다 반영된 증가분을 한 번에 더한다 (조회 요청 스레드는 순위 구조를 잠그지 않음)
+    // 그 사이 삭제된 게시글은 순위에 다시 넣지 않는다
+    @EventListener
+    public synchronized void onViewsFlushed(BoardViewsFlushedEvent event) {
+        double now = nowSeconds();
+        for (Map.Entry<Long, Long> views : event.getViews().entrySet()) {
+            Entry entry = entries.get(views.getKey());
+            if (entry != null) {
+                add(entry.boardId, entry.categoryId, views.getValue(), now);
+            }
+        }
+    }
+
+    @TransactionalEventListener
+    public void onBoardChanged(BoardChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED -> add(event.getBoardId(), event.getBoard().getCategory().getId(),
+                    creationWeight, toSeconds(event.getBoard().getCreatedAt()));
+            case UPDATED -> moveCategory(event.getBoardId(), event.getBoard().getCategory().getId());
+            case DELETED -> remove(event.getBoardId());
+        }
+    }
+
+    // 상위 게시글 ID 목록 (categoryId가 null이면 전체, 점수 내림차순)
+    public synchronized List<Long> top(Long categoryId, int size) {
+        TopK topK = categoryId == null ? global : byCategory.get(categoryId);
+        if (topK == null) {
+            return List.of();
+        }
+        List<Long> ranked = topK.ranked();
+        return ranked.size() <= size ? ranked : ranked.subList(0, size);
+    }
+
+    // 기준 시각을 현재로 옮기고 모든 점수를 같은 비율로 줄인다 (순서는 변하지 않음)
+    @Scheduled(fixedDelayString = "${board.trending.rescale-interval-ms:3600000}")
+    public synchronized void rescale() {
+        double now = nowSeconds();
+        double factor = Math.exp(-lambda * (now - landmark));
+        for (Entry entry : entries.values()) {
+            entry.score *= factor;
+        }
+        landmark = now;
+    }
+
+    private synchronized void add(Long boardId, Long categoryId, double weight, double atSeconds) {
+        Entry entry = entries.get(boardId);
+        if (entry == null) {
+            entry = new Entry(boardId, categoryId);
+            entries.put(boardId, entry);
+        } else if (!entry.categoryId.equals(categoryId)) {
+            moveCategory(boardId, categoryId);
+        }
+
+        boolean inGlobal = global.detach(entry);
+        TopK categoryTopK = byCategory.computeIfAbsent(categoryId, id -> new TopK(capacity));
+        boolean inCategory = categoryTopK.detach(entry);
+
+        entry.score += weight * Math.exp(lambda * (atSeconds - landmark));
+
+        global.offer(entry, inGlobal);
+        categoryTopK.offer(entry, inCategory);
+    }
+
+    private synchronized void moveCategory(Long boardId, Long categoryId) {
+        Entry entry = entries.get(boardId);
+        if (entry == null || entry.categoryId.equals(categoryId)) {
+            return;
+        }
+        TopK previous = byCategory.get(entry.categoryId);
+        if (previous != null && previous.detach(entry)) {
+            previous.refill(entries.values(), entry.categoryId);
+        }
+        entry.categoryId = categoryId;
+        byCategory.computeIfAbsent(categoryId, id -> new TopK(capacity)).offer(entry, false);
+    }
+
+    private synchronized void remove(Long boardId) {
+        Entry entry = entries.remove(boardId);
+        if (entry == null) {
+            return;
+        }
+        if (global.detach(entry)) {
+            global.refill(entries.values(), null);
+        }
+        TopK categoryTopK = byCategory.get(entry.categoryId);
+        if (categoryTopK != null && categoryTopK.detach(entry)) {
+            categoryTopK.refill(entries.values(), entry.categoryId);
+        }
+    }
+
+    private static double nowSeconds() {
+        return System.currentTimeMillis() / 1000.0;
+    }
+
+    private static double toSeconds(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return nowSeconds();
+        }
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() / 1000.0;
+    }
+
+    private static final class Entry {
+        private final Long boardId;
+        private Long categoryId;
+        private double score;
+
+        private Entry(Long boardId, Long categoryId) {
+            this.boardId = boardId;
+            this.categoryId = categoryId;
+        }
+    }
+
+    // 크기 K의 최소 힙 - 가장 낮은 점수가 맨 위에 있어 새 후보와 바로 비교할 수 있다
+    private static final class TopK {
+        private final int capacity;
+        private final PriorityQueue<Entry> heap = new PriorityQueue<>(LOWEST_FIRST);
+
+        // 점수 내림차순 정렬 결과 (변경 시 무효화)
+        private List<Long> ranked;
+
+        private TopK(int capacity) {
+            this.capacity = capacity;
+        }
+
+        // 점수를 바꾸기 전에 힙에서 빼 둔다 (힙 안에 있었는지 반환)
+        private boolean detach(Entry entry) {
+            boolean removed = heap.remove(entry);
+            if (removed) {
+                ranked = null;
+            }
+            return removed;
+        }
+
+        private void offer(Entry entry, boolean wasInHeap) {
+            if (wasInHeap || heap.size() < capacity) {
+                heap.offer(entry);
+                ranked = null;
+            } else if (LOWEST_FIRST.compare(entry, heap.peek()) > 0) {
+                heap.poll();
+                heap.offer(entry);
+                ranked = null;
+            }
+        }
+
+        // 삭제 등으로 빈자리가 생기면 힙 밖의 후보 중 가장 높은 점수로 채운다
+        private void refill(Iterable<Entry> candidates, Long categoryId) {
+            Set<Entry> members = new HashSet<>(heap);
+            Entry best = null;
+            for (Entry candidate : candidates) {
+                if (categoryId != null && !categoryId.equals(candidate.categoryId)) {
+                    continue;
+                }
+                if (members.contains(candidate)) {
+                    continue;
+                }
+                if (best == null || LOWEST_FIRST.compare(candidate, best) > 0) {
+                    best = candidate;
+                }
+            }
+            if (best != null) {
+                heap.offer(best);
+                ranked = null;
+            }
+        }
+
+        private List<Long> ranked() {
+            if (ranked == null) {
+                List<Entry> sorted = new ArrayList<>(heap);
+                sorted.sort(LOWEST_FIRST.reversed());
+                ranked = sorted.stream().map(entry -> entry.boardId).toList();
+            }
+            return ranked;
+        }
+    }
+}
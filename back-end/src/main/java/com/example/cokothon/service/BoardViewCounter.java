@@ -0,0 +1,124 @@
+package com.example.cokothon.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.BatchUpdateException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 게시글 조회수 지연 반영 카운터
+// 조회 시에는 메모리에서만 증가시키고, 주기적으로 모아서 한 번의 배치 UPDATE로 반영한다.
+// 반영 중인 증가분은 상세 캐시를 비울 때까지 조회수에 계속 더해 UPDATE 도중 조회수가 줄어 보이지 않게 한다.
+// 대기 항목은 반영할 때 지우므로(증가와 같은 원자 연산) 조회된 적 있는 게시글이 계속 쌓이지 않는다.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BoardViewCounter {
+
+    private static final String FLUSH_SQL =
+            "UPDATE boards SET view_count = COALESCE(view_count, 0) + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BoardCache boardCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 게시글 ID -> 아직 DB에 반영되지 않은 조회수
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+
+    // 게시글 ID -> 배치 UPDATE 중인 조회수
+    private final Map<Long, Long> flushing = new ConcurrentHashMap<>();
+
+    public void increment(Long boardId) {
+        pending.merge(boardId, 1L, Long::sum);
+    }
+
+    public long getPending(Long boardId) {
+        return pending.getOrDefault(boardId, 0L) + flushing.getOrDefault(boardId, 0L);
+    }
+
+    // 삭제된 게시글의 대기 중인 조회수는 버린다
+    @TransactionalEventListener
+    public void onBoardChanged(BoardChangedEvent event) {
+        if (event.getType() == BoardChangedEvent.Type.DELETED) {
+            pending.remove(event.getBoardId());
+            flushing.remove(event.getBoardId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${board.view-count.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        // 대기 중인 증가분을 반영 중으로 옮긴다 (먼저 반영 중에 더한 뒤 대기에서 빼므로 조회수가 줄어 보이는 순간이 없다)
+        List<Object[]> batch = new ArrayList<>();
+        for (Long boardId : pending.keySet()) {
+            pending.computeIfPresent(boardId, (id, delta) -> {
+                flushing.put(id, delta);
+                batch.add(new Object[]{delta, id});
+                return null;
+            });
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        int[] updateCounts;
+        try {
+            updateCounts = jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+        } catch (DataAccessException e) {
+            updateCounts = updateCountsOf(e);
+            log.warn("조회수 반영에 실패했습니다. 실패한 게시글은 다음 주기에 다시 시도합니다: {}", e.getMessage());
+        }
+
+        // DB에 반영된 게시글은 캐시를 비우고 같은 단계에서 반영 중 값을 정리한다 (다음 조회는 DB 값에 이미 포함)
+        // 반영하지 못한 증가분은 대기로 되돌려 다음 주기에 다시 시도
+        Map<Long, Long> flushed = new HashMap<>();
+        for (int i = 0; i < batch.size(); i++) {
+            Long delta = (Long) batch.get(i)[0];
+            Long boardId = (Long) batch.get(i)[1];
+            if (applied(updateCounts, i)) {
+                boardCache.evictDetail(boardId);
+                flushed.put(boardId, delta);
+            } else {
+                pending.merge(boardId, delta, Long::sum);
+            }
+            flushing.remove(boardId);
+        }
+        if (!flushed.isEmpty()) {
+            eventPublisher.publishEvent(new BoardViewsFlushedEvent(flushed));
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 실패한 배치의 행별 결과 (드라이버가 알려주지 않으면 null - 모두 실패로 본다)
+    // 자동 커밋으로 실행하므로 실패 전에 실행된 행은 이미 반영되어 있다
+    private static int[] updateCountsOf(DataAccessException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof BatchUpdateException batchFailure) {
+                return batchFailure.getUpdateCounts();
+            }
+        }
+        return null;
+    }
+
+    // 실행된 행인지 (0건은 그 사이 삭제된 게시글이므로 다시 시도하지 않는다,
+    // 실패 후 멈추는 드라이버는 실행된 행까지만 결과를 준다)
+    private static boolean applied(int[] updateCounts, int row) {
+        return updateCounts != null && row < updateCounts.length
+                && (updateCounts[row] >= 0 || updateCounts[row] == Statement.SUCCESS_NO_INFO);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.cokothon.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+// 조회수 배치 UPDATE 후 발행 (순위/자동완성 등은 조회마다가 아니라 이 증가분으로 한 번에 갱신)
+@Getter
+@RequiredArgsConstructor
+public class BoardViewsFlushedEvent {
+
+    // 게시글 ID -> 이번에 반영된 조회수
+    private final Map<Long, Long> views;
+}
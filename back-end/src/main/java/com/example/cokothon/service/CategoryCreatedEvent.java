@@ -0,0 +1,13 @@
+package com.example.cokothon.service;
+
+import com.example.cokothon.entity.Category;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 카테고리 생성 이벤트 (트랜잭션 커밋 후 스냅샷에 반영)
+@Getter
+@RequiredArgsConstructor
+public class CategoryCreatedEvent {
+
+    private final Category category;
+}
@@ -3,34 +3,129 @@ package com.example.cokothon.service;
 import com.example.cokothon.entity.Category;
 import com.example.cokothon.repository.CategoryRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Slf4j
 public class CategoryService {
     
     private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    // 전체 카테고리 스냅샷 (변경 시 새 스냅샷으로 통째로 교체, 조회는 DB를 거치지 않음)
+    // 스냅샷의 Category는 읽기 전용으로 공유되는 준영속 객체이며 게시글 수는 포함하지 않는다.
+    private volatile CategorySnapshot snapshot = CategorySnapshot.EMPTY;
+    
+    // 웹 서버가 요청을 받기 전에 스냅샷 구성
+    @EventListener(StartupRebuildEvent.class)
+    public void reloadSnapshot() {
+        snapshot = CategorySnapshot.of(categoryRepository.findAll());
+        log.info("카테고리 스냅샷 구성 완료: 카테고리 {}개", snapshot.byId().size());
+    }
     
     public List<Category> findAllCategories() {
-        return categoryRepository.findAll();
+        return snapshot.all();
     }
     
     public Optional<Category> findById(Long id) {
-        return categoryRepository.findById(id);
+        if (id == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(snapshot.byId().get(id));
     }
     
     public Optional<Category> findByName(String name) {
-        return categoryRepository.findByName(name);
+        if (name == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(snapshot.byName().get(name));
+    }
+    
+    // 카테고리별 게시글 수 (스냅샷과 달리 자주 바뀌므로 DB에서 조회)
+    public Map<Long, Integer> findBoardCounts() {
+        return categoryRepository.findBoardCounts().stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> (Integer) row[1]));
+    }
+    
+    // 카테고리의 게시글 수
+    public int getBoardCount(Long categoryId) {
+        return categoryRepository.findBoardCountById(categoryId)
+                .orElseThrow(() -> new IllegalArgumentException("카테고리를 찾을 수 없습니다."));
+    }
+    
+    // 카테고리별 게시글 수 증감 (게시글 작성/수정/삭제 트랜잭션 안에서 호출)
+    @Transactional
+    public void adjustBoardCount(Long categoryId, int delta) {
+        categoryRepository.adjustBoardCount(categoryId, delta);
+    }
+    
+    // 전체 게시글 수
+    public long countAllBoards() {
+        return categoryRepository.sumBoardCounts();
     }
     
+    // 이름 중복은 INSERT를 바로 flush해 유니크 제약으로 판정하고, 스냅샷은 커밋된 뒤에만 바꾼다
     @Transactional
     public Category createCategory(String name, String description) {
         Category category = new Category(name, description);
-        return categoryRepository.save(category);
+        Category saved;
+        try {
+            saved = categoryRepository.saveAndFlush(category);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException("이미 존재하는 카테고리입니다.");
+        }
+        eventPublisher.publishEvent(new CategoryCreatedEvent(saved));
+        return saved;
+    }
+    
+    // 롤백된 카테고리가 스냅샷에 남지 않도록 커밋 후에 반영
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public synchronized void onCategoryCreated(CategoryCreatedEvent event) {
+        snapshot = snapshot.with(event.getCategory());
+    }
+    
+    private record CategorySnapshot(Map<Long, Category> byId, Map<String, Category> byName, List<Category> all) {
+        
+        static final CategorySnapshot EMPTY = new CategorySnapshot(Map.of(), Map.of(), List.of());
+        
+        static CategorySnapshot of(List<Category> categories) {
+            List<Category> sorted = categories.stream()
+                    .sorted(Comparator.comparing(Category::getId))
+                    .toList();
+            Map<Long, Category> byId = new LinkedHashMap<>();
+            Map<String, Category> byName = new HashMap<>();
+            for (Category category : sorted) {
+                byId.put(category.getId(), category);
+                byName.put(category.getName(), category);
+            }
+            return new CategorySnapshot(Map.copyOf(byId), Map.copyOf(byName), sorted);
+        }
+        
+        // 기존 스냅샷에 카테고리를 추가한 새 스냅샷
+        CategorySnapshot with(Category category) {
+            Map<Long, Category> merged = all.stream()
+                    .collect(Collectors.toMap(Category::getId, Function.identity()));
+            merged.put(category.getId(), category);
+            return of(List.copyOf(merged.values()));
+        }
     }
 }
@@ -0,0 +1,22 @@
+package com.example.cokothon.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 설문조사 생성/수정/삭제 이벤트 (트랜잭션 커밋 후 통계 등에 반영)
+@Getter
+@RequiredArgsConstructor
+public class FamilySurveyChangedEvent {
+
+    private final Long surveyId;
+
+    // 변경 전 항목 (새로 생성된 경우 null)
+    private final SurveyFacts before;
+
+    // 변경 후 항목 (삭제된 경우 null)
+    private final SurveyFacts after;
+
+    // 추이 집계용 변경 전 / 후 항목 (새로 생성된 경우 / 삭제된 경우 null)
+    private final SurveyTrendFacts beforeTrend;
+    private final SurveyTrendFacts afterTrend;
+}
@@ -0,0 +1,112 @@
+package com.example.cokothon.service;
+
+import com.example.cokothon.dto.FamilySurveyResponse;
+import com.example.cokothon.entity.FamilySurvey;
+import com.example.cokothon.repository.FamilySurveyRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+// 완료된 설문조사 내보내기 (CSV / NDJSON)
+// ID 커서로 배치 단위로 읽어 바로 출력하고, 배치마다 영속성 컨텍스트를 비워 메모리 사용량을 일정하게 유지한다.
+// 배치마다 짧은 읽기 트랜잭션으로 읽으므로(저장소 기본 트랜잭션) 느린 클라이언트에 출력하는 동안에는 DB 연결을 잡고 있지 않는다.
+@Service
+@RequiredArgsConstructor
+public class FamilySurveyExportService {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String[] CSV_HEADER = {
+            "id", "userId", "userName", "birthDate", "gender", "phoneNumber", "address",
+            "relationshipToDeceased", "relationshipDescription", "deceasedName", "deceasedAge", "deathDate",
+            "causeOfDeath", "currentFamilyMembers", "livingAlone", "familySupportLevel", "griefStage",
+            "counselingExperience", "counselingWillingness", "meetingParticipationDesire", "preferredMeetingType",
+            "preferredMeetingTime", "supportNeeds", "additionalNotes", "privacyAgreement", "surveyCompleted",
+            "createdAt", "updatedAt"
+    };
+
+    private final FamilySurveyRepository familySurveyRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public void exportCsv(Writer writer) throws IOException {
+        // 엑셀에서 UTF-8로 인식하도록 BOM을 붙인다
+        writer.write('\uFEFF');
+        writeCsvLine(writer, CSV_HEADER);
+        export(writer, response -> writeCsvLine(writer, toCsvValues(response)));
+    }
+
+    public void exportNdjson(Writer writer) throws IOException {
+        export(writer, response -> {
+            writer.write(objectMapper.writeValueAsString(response));
+            writer.write('\n');
+        });
+    }
+
+    private void export(Writer writer, RowWriter rowWriter) throws IOException {
+        Pageable limit = PageRequest.of(0, BATCH_SIZE);
+        Long afterId = 0L;
+        while (true) {
+            List<FamilySurvey> batch = familySurveyRepository.findCompletedForExport(afterId, limit);
+            for (FamilySurvey survey : batch) {
+                rowWriter.write(FamilySurveyResponse.from(survey));
+            }
+            writer.flush();
+            entityManager.clear();
+
+            if (batch.size() < BATCH_SIZE) {
+                break;
+            }
+            afterId = batch.get(batch.size() - 1).getId();
+        }
+    }
+
+    private static Object[] toCsvValues(FamilySurveyResponse r) {
+        return new Object[]{
+                r.getId(), r.getUserId(), r.getUserName(), r.getBirthDate(), r.getGender(), r.getPhoneNumber(),
+                r.getAddress(), r.getRelationshipToDeceased(), r.getRelationshipDescription(), r.getDeceasedName(),
+                r.getDeceasedAge(), r.getDeathDate(), r.getCauseOfDeath(), r.getCurrentFamilyMembers(),
+                r.getLivingAlone(), r.getFamilySupportLevel(), r.getGriefStage(), r.getCounselingExperience(),
+                r.getCounselingWillingness(), r.getMeetingParticipationDesire(), r.getPreferredMeetingType(),
+                r.getPreferredMeetingTime(), r.getSupportNeeds(), r.getAdditionalNotes(), r.getPrivacyAgreement(),
+                r.getSurveyCompleted(), r.getCreatedAt(), r.getUpdatedAt()
+        };
+    }
+
+    private static void writeCsvLine(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    private static String escapeCsv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        // 스프레드시트 수식으로 해석되지 않도록 막는다 (탭 / 캐리지 리턴으로 시작하는 값 포함)
+        if (!text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0 && !(value instanceof Number)) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(FamilySurveyResponse response) throws IOException;
+    }
+}
@@ -1,25 +1,62 @@
 package com.example.cokothon.service;
 
 import com.example.cokothon.dto.FamilySurveyRequest;
+import com.example.cokothon.dto.FamilySurveySummaryResponse;
+import com.example.cokothon.dto.SurveyFilterRequest;
 import com.example.cokothon.dto.SurveyStatisticsResponse;
+import com.example.cokothon.dto.SurveyTrendResponse;
 import com.example.cokothon.entity.FamilySurvey;
+import com.example.cokothon.entity.FamilySurveyHistory;
+import com.example.cokothon.entity.RelationshipToDeceased;
 import com.example.cokothon.entity.User;
+import com.example.cokothon.repository.FamilySurveyHistoryRepository;
 import com.example.cokothon.repository.FamilySurveyRepository;
+import com.example.cokothon.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class FamilySurveyService {
     
+    // 관리자 목록 커서 조회 한 번에 가져올 수 있는 최대 개수
+    private static final int MAX_SCROLL_SIZE = 100;
+    
+    // 설문조사를 저장하려면 반드시 있어야 하는 자동 저장 항목
+    private static final String RELATIONSHIP_FIELD = "relationshipToDeceased";
+    
     private final FamilySurveyRepository familySurveyRepository;
+    private final FamilySurveyHistoryRepository familySurveyHistoryRepository;
+    private final SurveyStatisticsSnapshot surveyStatisticsSnapshot;
+    private final SurveyBitmapIndex surveyBitmapIndex;
+    private final SurveyTrendRollup surveyTrendRollup;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
     
     // 사용자의 설문조사 조회
     public Optional<FamilySurvey> findSurveyByUser(User user) {
@@ -37,8 +74,12 @@ public class FamilySurveyService {
         Optional<FamilySurvey> existingSurvey = familySurveyRepository.findByUser(user);
         
         FamilySurvey survey;
+        SurveyFacts before = null;
+        SurveyTrendFacts beforeTrend = null;
         if (existingSurvey.isPresent()) {
             survey = existingSurvey.get();
+            before = SurveyFacts.from(survey);
+            beforeTrend = SurveyTrendFacts.from(survey);
         } else {
             survey = new FamilySurvey(user);
         }
@@ -46,7 +87,105 @@ public class FamilySurveyService {
         // 요청 데이터로 설문조사 정보 업데이트
         updateSurveyFromRequest(survey, request);
         
-        return familySurveyRepository.save(survey);
+        return save(survey, before, beforeTrend);
+    }
+    
+    // 자동 저장 - patch에 들어 있는 항목만 현재 값에 덮어쓴다 (없는 항목은 유지, null은 지우기)
+    @Transactional
+    public FamilySurvey applyPatch(Long userId, ObjectNode patch) {
+        Optional<FamilySurvey> existingSurvey = familySurveyRepository.findByUserId(userId);
+        
+        FamilySurvey survey;
+        SurveyFacts before = null;
+        SurveyTrendFacts beforeTrend = null;
+        FamilySurveyRequest request;
+        if (existingSurvey.isPresent()) {
+            survey = existingSurvey.get();
+            before = SurveyFacts.from(survey);
+            beforeTrend = SurveyTrendFacts.from(survey);
+            request = FamilySurveyRequest.from(survey);
+        } else {
+            survey = new FamilySurvey(userRepository.getReferenceById(userId));
+            request = new FamilySurveyRequest();
+        }
+        
+        readPatch(patch, request);
+        requireRelationship(request);
+        
+        updateSurveyFromRequest(survey, request);
+        return save(survey, before, beforeTrend);
+    }
+    
+    // 자동 저장 검사 - 이미 검사한 요청(처음에는 currentRequest)에 patch를 덮어쓴 결과가 저장 가능한지 확인하고 그 결과를 돌려준다
+    // (알 수 없는 항목, 형식이 맞지 않는 값, 필수 항목 누락은 거절, validated는 바뀌지 않는다)
+    public FamilySurveyRequest validatePatch(FamilySurveyRequest validated, ObjectNode patch) {
+        FamilySurveyRequest request = new FamilySurveyRequest();
+        readPatch(objectMapper.valueToTree(validated), request);
+        readPatch(patch, request);
+        requireRelationship(request);
+        return request;
+    }
+    
+    // 저장할 수 없게 된 patch에서 현재 설문조사에 반영 가능한 항목만 남긴다 (반영할 수 있는 것이 없으면 빈 patch)
+    public ObjectNode retainApplicable(Long userId, ObjectNode patch) {
+        FamilySurveyRequest request = currentRequest(userId);
+        ObjectNode applicable = patch.objectNode();
+        for (Map.Entry<String, JsonNode> field : patch.properties()) {
+            // 필수 항목을 지우는 값은 반영할 수 없다
+            if (RELATIONSHIP_FIELD.equals(field.getKey()) && field.getValue().isNull()) {
+                continue;
+            }
+            ObjectNode single = patch.objectNode();
+            single.set(field.getKey(), field.getValue());
+            try {
+                readPatch(single, request);
+            } catch (IllegalArgumentException e) {
+                continue;
+            }
+            applicable.set(field.getKey(), field.getValue());
+        }
+        if (request.getRelationshipToDeceased() == null) {
+            applicable.removeAll();
+        }
+        return applicable;
+    }
+    
+    // 현재 설문조사를 요청 형식으로 (없으면 빈 요청)
+    public FamilySurveyRequest currentRequest(Long userId) {
+        return familySurveyRepository.findByUserId(userId)
+                .map(FamilySurveyRequest::from)
+                .orElseGet(FamilySurveyRequest::new);
+    }
+    
+    private static void requireRelationship(FamilySurveyRequest request) {
+        if (request.getRelationshipToDeceased() == null) {
+            throw new IllegalArgumentException("사망자와의 관계를 입력해야 저장할 수 있습니다.");
+        }
+    }
+    
+    private void readPatch(ObjectNode patch, FamilySurveyRequest request) {
+        try {
+            objectMapper.readerForUpdating(request)
+                    .with(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                    .readValue(patch);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("자동 저장할 수 없는 항목이 있습니다: " + e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    // 저장 후 변경 이벤트 발행 (추이 집계가 생성/수정 시각을 쓰므로 flush로 시각을 먼저 채운다)
+    // 추이의 이력 기준 집계가 달라지는 변경이면 같은 트랜잭션에서 변경 이력도 남긴다
+    private FamilySurvey save(FamilySurvey survey, SurveyFacts before, SurveyTrendFacts beforeTrend) {
+        FamilySurvey saved = familySurveyRepository.saveAndFlush(survey);
+        SurveyTrendFacts afterTrend = SurveyTrendFacts.from(saved);
+        if (!afterTrend.sameHistoryCell(beforeTrend)) {
+            familySurveyHistoryRepository.save(new FamilySurveyHistory(saved));
+        }
+        eventPublisher.publishEvent(new FamilySurveyChangedEvent(saved.getId(),
+                before, SurveyFacts.from(saved), beforeTrend, afterTrend));
+        return saved;
     }
     
     // 설문조사 완료 처리
@@ -55,8 +194,10 @@ public class FamilySurveyService {
         FamilySurvey survey = familySurveyRepository.findById(surveyId)
                 .orElseThrow(() -> new IllegalArgumentException("설문조사를 찾을 수 없습니다."));
         
+        SurveyFacts before = SurveyFacts.from(survey);
+        SurveyTrendFacts beforeTrend = SurveyTrendFacts.from(survey);
         survey.completeSurvey();
-        return familySurveyRepository.save(survey);
+        return save(survey, before, beforeTrend);
     }
     
     // 사용자가 설문조사를 완료했는지 확인
@@ -64,77 +205,77 @@ public class FamilySurveyService {
         return familySurveyRepository.hasCompletedSurvey(userId);
     }
     
-    // 완료된 설문조사 목록 조회
-    public List<FamilySurvey> getCompletedSurveys() {
-        return familySurveyRepository.findBySurveyCompletedTrue();
+    // 완료된 설문조사 목록 조회 (커서 페이징 - cursor는 이전 페이지의 nextCursor)
+    public Slice<FamilySurveySummaryResponse> getCompletedSurveys(String cursor, int size) {
+        return familySurveyRepository.findCompletedSummaries(beforeId(cursor), scrollLimit(size));
     }
     
     // 미완료 설문조사 목록 조회
-    public List<FamilySurvey> getIncompleteSurveys() {
-        return familySurveyRepository.findBySurveyCompletedFalse();
+    public Slice<FamilySurveySummaryResponse> getIncompleteSurveys(String cursor, int size) {
+        return familySurveyRepository.findIncompleteSummaries(beforeId(cursor), scrollLimit(size));
     }
     
     // 모임 참석 희망자 조회
-    public List<FamilySurvey> getMeetingParticipants() {
-        return familySurveyRepository.findByMeetingParticipationDesireTrue();
+    public Slice<FamilySurveySummaryResponse> getMeetingParticipants(String cursor, int size) {
+        return familySurveyRepository.findMeetingParticipantSummaries(beforeId(cursor), scrollLimit(size));
     }
     
     // 상담 의향이 있는 사용자 조회
-    public List<FamilySurvey> getCounselingInterestedUsers() {
-        return familySurveyRepository.findUsersInterestedInCounseling();
+    public Slice<FamilySurveySummaryResponse> getCounselingInterestedUsers(String cursor, int size) {
+        return familySurveyRepository.findCounselingInterestedSummaries(beforeId(cursor), scrollLimit(size));
     }
     
     // 혼자 살고 있는 유가족 조회
-    public List<FamilySurvey> getUsersLivingAlone() {
-        return familySurveyRepository.findByLivingAloneTrue();
+    public Slice<FamilySurveySummaryResponse> getUsersLivingAlone(String cursor, int size) {
+        return familySurveyRepository.findLivingAloneSummaries(beforeId(cursor), scrollLimit(size));
     }
     
     // 관계별 유가족 조회
-    public List<FamilySurvey> getUsersByRelationship(String relationship) {
-        return familySurveyRepository.findByRelationshipToDeceased(relationship);
+    public Slice<FamilySurveySummaryResponse> getUsersByRelationship(RelationshipToDeceased relationship, String cursor, int size) {
+        return familySurveyRepository.findSummariesByRelationship(relationship, beforeId(cursor), scrollLimit(size));
     }
     
-    // 설문조사 통계 생성
-    public SurveyStatisticsResponse getStatistics() {
-        SurveyStatisticsResponse stats = new SurveyStatisticsResponse();
-        
-        // 기본 통계
-        stats.setTotalSurveys(familySurveyRepository.count());
-        stats.setCompletedSurveys(familySurveyRepository.countCompletedSurveys());
-        stats.setIncompleteSurveys(stats.getTotalSurveys() - stats.getCompletedSurveys());
-        
-        // 관계별 통계
-        List<Object[]> relationshipStats = familySurveyRepository.getRelationshipStatistics();
-        Map<String, Long> relationshipMap = new HashMap<>();
-        for (Object[] stat : relationshipStats) {
-            relationshipMap.put((String) stat[0], (Long) stat[1]);
-        }
-        stats.setRelationshipStatistics(relationshipMap);
+    // 복합 조건에 맞는 설문조사 개수
+    public long countSurveys(SurveyFilterRequest filter) {
+        return surveyBitmapIndex.evaluate(filter).cardinality();
+    }
+    
+    // 복합 조건에 맞는 설문조사 조회 (최신 ID순 페이징)
+    public Page<FamilySurveySummaryResponse> filterSurveys(SurveyFilterRequest filter, Pageable pageable) {
+        BitSet matches = surveyBitmapIndex.evaluate(filter);
         
-        // 애도 단계별 통계
-        List<Object[]> griefStageStats = familySurveyRepository.getGriefStageStatistics();
-        Map<String, Long> griefStageMap = new HashMap<>();
-        for (Object[] stat : griefStageStats) {
-            griefStageMap.put((String) stat[0], (Long) stat[1]);
+        List<Long> pageIds = new ArrayList<>(pageable.getPageSize());
+        long skip = pageable.getOffset();
+        for (int id = matches.previousSetBit(matches.length() - 1);
+             id >= 0 && pageIds.size() < pageable.getPageSize();
+             id = matches.previousSetBit(id - 1)) {
+            if (skip > 0) {
+                skip--;
+                continue;
+            }
+            pageIds.add((long) id);
+        }
+        if (pageIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, matches.cardinality());
         }
-        stats.setGriefStageStatistics(griefStageMap);
-        
-        // 모임 참석 희망 통계
-        long meetingDesired = familySurveyRepository.findByMeetingParticipationDesireTrue().size();
-        stats.setMeetingParticipationDesired(meetingDesired);
-        stats.setMeetingParticipationNotDesired(stats.getCompletedSurveys() - meetingDesired);
-        
-        // 상담 의향 통계
-        long counselingInterested = familySurveyRepository.findUsersInterestedInCounseling().size();
-        stats.setCounselingInterested(counselingInterested);
-        stats.setCounselingNotInterested(stats.getCompletedSurveys() - counselingInterested);
-        
-        // 홀로 거주 통계
-        long livingAlone = familySurveyRepository.findByLivingAloneTrue().size();
-        stats.setLivingAloneCount(livingAlone);
-        stats.setLivingWithFamilyCount(stats.getCompletedSurveys() - livingAlone);
         
-        return stats;
+        Map<Long, FamilySurveySummaryResponse> surveys = familySurveyRepository.findSummariesByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(FamilySurveySummaryResponse::getId, Function.identity()));
+        List<FamilySurveySummaryResponse> content = pageIds.stream()
+                .map(surveys::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, matches.cardinality());
+    }
+    
+    // 설문조사 통계 조회 (변경 시마다 갱신되는 스냅샷)
+    public SurveyStatisticsResponse getStatistics() {
+        return surveyStatisticsSnapshot.getStatistics();
+    }
+    
+    // 설문조사 추이 (시간 구간별 집계에서 조회)
+    public SurveyTrendResponse getTrends(SurveyTrendAxis axis, SurveyTrendDimension dimension) {
+        return surveyTrendRollup.getTrends(axis, dimension);
     }
     
     // 설문조사 삭제
@@ -143,6 +284,21 @@ public class FamilySurveyService {
         FamilySurvey survey = familySurveyRepository.findById(surveyId)
                 .orElseThrow(() -> new IllegalArgumentException("설문조사를 찾을 수 없습니다."));
         familySurveyRepository.delete(survey);
+        eventPublisher.publishEvent(new FamilySurveyChangedEvent(surveyId,
+                SurveyFacts.from(survey), null, SurveyTrendFacts.from(survey), null));
+    }
+    
+    // 첫 페이지는 커서 없이 조회
+    private static Long beforeId(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Long.MAX_VALUE;
+        }
+        return SurveyCursor.decode(cursor).id();
+    }
+    
+    // 커서 조회 개수는 1 ~ MAX_SCROLL_SIZE로 맞춘다
+    private static Pageable scrollLimit(int size) {
+        return PageRequest.of(0, Math.min(Math.max(size, 1), MAX_SCROLL_SIZE));
     }
     
     // 요청 데이터로 설문조사 엔티티 업데이트하는 private 메서드
@@ -186,7 +342,6 @@ public class FamilySurveyService {
     private boolean isRequiredFieldsComplete(FamilySurveyRequest request) {
         return request.getBirthDate() != null
                 && request.getRelationshipToDeceased() != null
-                && !request.getRelationshipToDeceased().trim().isEmpty()
                 && request.getMeetingParticipationDesire() != null
                 && request.getPrivacyAgreement() != null
                 && request.getPrivacyAgreement();
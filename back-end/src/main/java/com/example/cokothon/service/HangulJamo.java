@@ -0,0 +1,80 @@
+package com.example.cokothon.service;
+
+import java.util.Locale;
+import java.util.Map;
+
+// 한글 자모 분해 (자동완성 접두어 비교용)
+// 완성형 음절과 호환 자모를 모두 호환 자모 단위로 풀고, 겹모음/겹받침도 입력 순서대로 나눈다.
+// 예) "닭" -> "ㄷㅏㄹㄱ", "과" -> "ㄱㅗㅏ" 이므로 입력 중인 "달", "고"도 접두어로 일치한다.
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BASE = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JUNGSEONG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    // 0번은 받침 없음
+    private static final String JONGSEONG = " ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+    // 겹모음 / 겹받침 -> 입력 순서의 자모
+    private static final Map<Character, String> COMPOUND = Map.ofEntries(
+            Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"),
+            Map.entry('ㅝ', "ㅜㅓ"), Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"),
+            Map.entry('ㅢ', "ㅡㅣ"),
+            Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"),
+            Map.entry('ㄺ', "ㄹㄱ"), Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"),
+            Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"), Map.entry('ㄿ', "ㄹㅍ"),
+            Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ")
+    );
+
+    private HangulJamo() {
+    }
+
+    // 소문자화 + 연속 공백 정리 + 자모 분해
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String lower = text.strip().toLowerCase(Locale.ROOT);
+        StringBuilder result = new StringBuilder(lower.length() * 3);
+        boolean previousSpace = false;
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (Character.isWhitespace(c)) {
+                if (!previousSpace) {
+                    result.append(' ');
+                }
+                previousSpace = true;
+                continue;
+            }
+            previousSpace = false;
+            appendDecomposed(result, c);
+        }
+        return result.toString();
+    }
+
+    private static void appendDecomposed(StringBuilder result, char c) {
+        if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+            int index = c - SYLLABLE_BASE;
+            appendJamo(result, CHOSEONG.charAt(index / (JUNG_COUNT * JONG_COUNT)));
+            appendJamo(result, JUNGSEONG.charAt(index % (JUNG_COUNT * JONG_COUNT) / JONG_COUNT));
+            int jong = index % JONG_COUNT;
+            if (jong != 0) {
+                appendJamo(result, JONGSEONG.charAt(jong));
+            }
+        } else {
+            appendJamo(result, c);
+        }
+    }
+
+    private static void appendJamo(StringBuilder result, char jamo) {
+        String split = COMPOUND.get(jamo);
+        if (split != null) {
+            result.append(split);
+        } else {
+            result.append(jamo);
+        }
+    }
+}
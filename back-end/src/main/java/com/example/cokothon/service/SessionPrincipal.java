@@ -0,0 +1,14 @@
+package com.example.cokothon.service;
+
+import com.example.cokothon.entity.User;
+
+import java.io.Serializable;
+
+// 세션에 저장하는 로그인 사용자 정보 (엔티티 대신 식별자/이름/관리자 여부만 보관)
+// 세션 저장소(메모리 / JDBC)에 직렬화되어 여러 서버가 같은 세션을 읽을 수 있다.
+public record SessionPrincipal(Long id, String name, boolean admin) implements Serializable {
+
+    public static SessionPrincipal from(User user) {
+        return new SessionPrincipal(user.getId(), user.getName(), Boolean.TRUE.equals(user.getIsAdmin()));
+    }
+}
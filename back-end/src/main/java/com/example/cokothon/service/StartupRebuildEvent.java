@@ -0,0 +1,5 @@
+package com.example.cokothon.service;
+
+// 웹 서버가 요청을 받기 전에 한 번 발행 (메모리 색인/스냅샷은 이 이벤트에서 DB로부터 구성)
+public class StartupRebuildEvent {
+}
@@ -0,0 +1,216 @@
+package com.example.cokothon.service;
+
+import com.example.cokothon.dto.FamilySurveyRequest;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+// 설문조사 자동 저장 모으기
+// 사용자별로 첫 자동 저장 후 window 동안 들어온 변경 항목을 하나로 합쳐(나중 값 우선) 한 번만 저장한다.
+// 제출 / 내 설문조사 조회 전에는 해당 사용자의 대기 중인 변경을 먼저 저장해 최신 값이 보이도록 한다.
+// 자동 저장 접수, 예약 저장, 즉시 저장, 제출은 사용자별 잠금으로 한 줄로 세우므로 이 서버 안에서는 도착 순서대로 반영되고,
+// 다른 서버와 겹친 저장은 FamilySurvey의 @Version으로 실패한 뒤 다시 시도한다.
+// 잠금은 사용자마다 따로 두어(쓰는 동안만 두고 지움) 다른 사용자의 제출을 기다리지 않는다.
+// 저장에 실패한 변경은 버리지 않고 다시 대기열에 넣으며, 현재 설문조사에 맞지 않게 된 항목만 빼고 저장한다.
+// 검사는 대기 중인 변경에 검사를 마친 요청을 두고 이어서 하므로, 설문조사는 모으는 동안 처음 한 번만 읽는다.
+@Component
+@Slf4j
+public class SurveyAutosaveBuffer {
+
+    // 저장 실패 시 같은 변경을 시도하는 최대 횟수
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final FamilySurveyService familySurveyService;
+    private final TaskScheduler taskScheduler;
+    private final Duration window;
+
+    // 사용자 ID -> 대기 중인 변경
+    private final Map<Long, Pending> pending = new ConcurrentHashMap<>();
+
+    // 사용자 ID -> 잠금 (같은 사용자의 접수 / 저장 / 제출 직렬화, 기다리는 스레드가 없으면 지운다)
+    private final Map<Long, UserLock> locks = new ConcurrentHashMap<>();
+
+    private volatile boolean shuttingDown;
+
+    public SurveyAutosaveBuffer(FamilySurveyService familySurveyService,
+                                TaskScheduler taskScheduler,
+                                @Value("${survey.autosave.coalesce-window:2s}") Duration window) {
+        this.familySurveyService = familySurveyService;
+        this.taskScheduler = taskScheduler;
+        this.window = window;
+    }
+
+    // 변경 항목 추가 (대기 중인 변경과 합친 결과가 현재 설문조사에 저장될 수 없으면 바로 IllegalArgumentException)
+    public void submit(Long userId, ObjectNode patch) {
+        UserLock lock = lock(userId);
+        try {
+            Pending current = pending.get(userId);
+            FamilySurveyRequest base = current != null ? current.validated : familySurveyService.currentRequest(userId);
+            FamilySurveyRequest validated = familySurveyService.validatePatch(base, patch);
+
+            if (current != null) {
+                current.patch.setAll(patch.deepCopy());
+                current.validated = validated;
+            } else {
+                enqueue(userId, new Pending(patch.deepCopy(), validated, 0));
+            }
+        } finally {
+            unlock(userId, lock);
+        }
+    }
+
+    // 대기 중인 변경을 바로 저장 (없으면 아무것도 하지 않음, 실패하면 변경을 다시 대기열에 넣고 예외를 그대로 던진다)
+    public void flush(Long userId) {
+        UserLock lock = lock(userId);
+        try {
+            flushLocked(userId, true);
+        } finally {
+            unlock(userId, lock);
+        }
+    }
+
+    // 대기 중인 변경을 저장한 뒤 같은 잠금 안에서 action 실행 (제출이 그 사이 들어온 자동 저장과 섞이지 않도록)
+    public <T> T flushThen(Long userId, Supplier<T> action) {
+        UserLock lock = lock(userId);
+        try {
+            flushLocked(userId, true);
+            return action.get();
+        } finally {
+            unlock(userId, lock);
+        }
+    }
+
+    public int countPending() {
+        return pending.size();
+    }
+
+    @PreDestroy
+    public void flushAll() {
+        shuttingDown = true;
+        for (Long userId : pending.keySet()) {
+            UserLock lock = lock(userId);
+            try {
+                flushLocked(userId, false);
+            } finally {
+                unlock(userId, lock);
+            }
+        }
+    }
+
+    private void flushScheduled(Long userId, Pending expected) {
+        UserLock lock = lock(userId);
+        try {
+            // 그 사이 flush()로 이미 저장되었거나 다시 대기열에 들어갔으면 건너뛴다
+            if (pending.get(userId) == expected) {
+                flushLocked(userId, false);
+            }
+        } finally {
+            unlock(userId, lock);
+        }
+    }
+
+    private void flushLocked(Long userId, boolean rethrow) {
+        Pending changes = pending.remove(userId);
+        if (changes == null) {
+            return;
+        }
+        changes.future.cancel(false);
+        try {
+            apply(userId, changes.patch);
+        } catch (RuntimeException e) {
+            requeue(userId, changes, e);
+            if (rethrow) {
+                throw e;
+            }
+        }
+    }
+
+    // 현재 설문조사에 맞지 않게 된 항목(예: 그 사이 설문조사가 삭제되어 필수 항목이 없음)은 빼고 나머지만 저장
+    private void apply(Long userId, ObjectNode patch) {
+        try {
+            familySurveyService.applyPatch(userId, patch);
+        } catch (IllegalArgumentException e) {
+            ObjectNode applicable = familySurveyService.retainApplicable(userId, patch);
+            List<String> dropped = new ArrayList<>();
+            patch.fieldNames().forEachRemaining(name -> {
+                if (!applicable.has(name)) {
+                    dropped.add(name);
+                }
+            });
+            log.warn("설문조사 자동 저장 항목 제외: 사용자 {}, 제외 항목 {}, 사유 {}", userId, dropped, e.getMessage());
+            if (!applicable.isEmpty()) {
+                familySurveyService.applyPatch(userId, applicable);
+            }
+        }
+    }
+
+    // 실패한 변경을 다시 대기열에 넣는다 (잠금을 쥐고 있어 그 사이 더 새로운 변경은 들어오지 않는다)
+    private void requeue(Long userId, Pending failed, RuntimeException cause) {
+        int attempts = failed.attempts + 1;
+        if (attempts >= MAX_ATTEMPTS || shuttingDown) {
+            log.error("설문조사 자동 저장 실패, 변경을 버림: 사용자 {}, 항목 {}, 시도 {}회",
+                    userId, failed.patch.size(), attempts, cause);
+            return;
+        }
+        log.warn("설문조사 자동 저장 실패, 다시 시도 예정: 사용자 {}, 항목 {}, 시도 {}회",
+                userId, failed.patch.size(), attempts, cause);
+        enqueue(userId, new Pending(failed.patch, failed.validated, attempts));
+    }
+
+    private void enqueue(Long userId, Pending created) {
+        created.future = taskScheduler.schedule(() -> flushScheduled(userId, created), Instant.now().plus(window));
+        pending.put(userId, created);
+    }
+
+    // 사용자 잠금을 얻는다 (쓰는 스레드 수를 세어 두고, 마지막으로 놓는 스레드가 지운다)
+    private UserLock lock(Long userId) {
+        UserLock lock = locks.compute(userId, (key, existing) -> {
+            UserLock used = existing != null ? existing : new UserLock();
+            used.holders++;
+            return used;
+        });
+        lock.lock();
+        return lock;
+    }
+
+    private void unlock(Long userId, UserLock lock) {
+        lock.unlock();
+        locks.computeIfPresent(userId, (key, existing) -> --existing.holders == 0 ? null : existing);
+    }
+
+    int countLocks() {
+        return locks.size();
+    }
+
+    // holders는 locks.compute 안에서만 바꾼다
+    private static final class UserLock extends ReentrantLock {
+        private int holders;
+    }
+
+    private static final class Pending {
+        private final ObjectNode patch;
+        // 현재 설문조사에 patch를 덮어쓴, 검사를 마친 요청
+        private FamilySurveyRequest validated;
+        private final int attempts;
+        private ScheduledFuture<?> future;
+
+        private Pending(ObjectNode patch, FamilySurveyRequest validated, int attempts) {
+            this.patch = patch;
+            this.validated = validated;
+            this.attempts = attempts;
+        }
+    }
+}
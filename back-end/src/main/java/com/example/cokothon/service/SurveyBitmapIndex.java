@@ -0,0 +1,152 @@
+package com.example.cokothon.service;
+
+import com.example.cokothon.dto.SurveyFilterRequest;
+import com.example.cokothon.repository.FamilySurveyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 설문조사 범주형 항목별 비트맵 색인 (비트 위치 = 설문조사 ID)
+// AND/OR/NOT 조건을 비트 연산으로 계산해 테이블을 다시 읽지 않고 대상 ID를 구한다.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SurveyBitmapIndex {
+
+    // 조건 묶음의 최대 중첩 깊이
+    private static final int MAX_DEPTH = 8;
+
+    private final FamilySurveyRepository familySurveyRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 존재하는 전체 설문조사
+    private final BitSet all = new BitSet();
+
+    // 항목 -> (값 -> 해당 값을 가진 설문조사)
+    private final Map<SurveyFilterField, Map<String, BitSet>> bitmaps = new EnumMap<>(SurveyFilterField.class);
+
+    @EventListener(StartupRebuildEvent.class)
+    public void rebuild() {
+        List<Object[]> rows = familySurveyRepository.getIndexRows();
+
+        lock.writeLock().lock();
+        try {
+            all.clear();
+            bitmaps.clear();
+            for (Object[] row : rows) {
+                add(position((Long) row[0]), SurveyFacts.fromRow(row, 1));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("설문조사 비트맵 색인 구성 완료: 설문조사 {}개", rows.size());
+    }
+
+    @TransactionalEventListener
+    public void onSurveyChanged(FamilySurveyChangedEvent event) {
+        int position = position(event.getSurveyId());
+
+        lock.writeLock().lock();
+        try {
+            remove(position);
+            if (event.getAfter() != null) {
+                add(position, event.getAfter());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 조건을 만족하는 설문조사 ID 집합 (호출자가 자유롭게 수정 가능한 복사본)
+    public BitSet evaluate(SurveyFilterRequest filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("검색 조건이 필요합니다.");
+        }
+
+        lock.readLock().lock();
+        try {
+            return evaluateLocked(filter, 1);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private BitSet evaluateLocked(SurveyFilterRequest filter, int depth) {
+        if (filter == null) {
+            throw new IllegalArgumentException("비어 있는 조건이 있습니다.");
+        }
+        if (depth > MAX_DEPTH) {
+            throw new IllegalArgumentException("조건은 " + MAX_DEPTH + "단계까지만 중첩할 수 있습니다.");
+        }
+        if (filter.getOp() == null) {
+            SurveyFilterField field = SurveyFilterField.fromFieldName(filter.getField());
+            BitSet matches = bitmaps.getOrDefault(field, Map.of()).get(field.normalize(filter.getValue()));
+            return matches != null ? (BitSet) matches.clone() : new BitSet();
+        }
+
+        List<SurveyFilterRequest> conditions = filter.getConditions() != null ? filter.getConditions() : List.of();
+        switch (filter.getOp().toUpperCase(Locale.ROOT)) {
+            case "AND": {
+                BitSet result = (BitSet) all.clone();
+                for (SurveyFilterRequest condition : conditions) {
+                    result.and(evaluateLocked(condition, depth + 1));
+                }
+                return result;
+            }
+            case "OR": {
+                BitSet result = new BitSet();
+                for (SurveyFilterRequest condition : conditions) {
+                    result.or(evaluateLocked(condition, depth + 1));
+                }
+                return result;
+            }
+            case "NOT": {
+                if (conditions.size() != 1) {
+                    throw new IllegalArgumentException("NOT 조건에는 하위 조건이 하나만 있어야 합니다.");
+                }
+                BitSet result = (BitSet) all.clone();
+                result.andNot(evaluateLocked(conditions.get(0), depth + 1));
+                return result;
+            }
+            default:
+                throw new IllegalArgumentException("지원하지 않는 조건 연산입니다: " + filter.getOp());
+        }
+    }
+
+    private void add(int position, SurveyFacts facts) {
+        all.set(position);
+        for (SurveyFilterField field : SurveyFilterField.values()) {
+            String value = field.valueOf(facts);
+            if (value != null) {
+                bitmaps.computeIfAbsent(field, key -> new HashMap<>())
+                        .computeIfAbsent(value, key -> new BitSet())
+                        .set(position);
+            }
+        }
+    }
+
+    private void remove(int position) {
+        all.clear(position);
+        for (Map<String, BitSet> values : bitmaps.values()) {
+            for (BitSet bitmap : values.values()) {
+                bitmap.clear(position);
+            }
+        }
+    }
+
+    private static int position(Long surveyId) {
+        return Math.toIntExact(surveyId);
+    }
+}
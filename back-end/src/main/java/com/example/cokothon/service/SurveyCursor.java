@@ -0,0 +1,24 @@
+package com.example.cokothon.service;
+
+import com.example.cokothon.dto.FamilySurveySummaryResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 관리자 설문조사 목록 커서 페이징 위치 (id 내림차순) - 클라이언트에는 불투명한 문자열로 전달
+public record SurveyCursor(Long id) {
+
+    public static String encode(FamilySurveySummaryResponse summary) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.valueOf(summary.getId()).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SurveyCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return new SurveyCursor(Long.parseLong(raw));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
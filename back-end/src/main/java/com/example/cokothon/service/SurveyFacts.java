@@ -0,0 +1,53 @@
+package com.example.cokothon.service;
+
+import com.example.cokothon.entity.CounselingWillingness;
+import com.example.cokothon.entity.FamilySupportLevel;
+import com.example.cokothon.entity.FamilySurvey;
+import com.example.cokothon.entity.GriefStage;
+import com.example.cokothon.entity.MeetingTime;
+import com.example.cokothon.entity.MeetingType;
+import com.example.cokothon.entity.RelationshipToDeceased;
+
+// 통계 집계에 쓰이는 설문조사의 범주형 항목 조합
+public record SurveyFacts(boolean completed,
+                          RelationshipToDeceased relationshipToDeceased,
+                          GriefStage griefStage,
+                          FamilySupportLevel familySupportLevel,
+                          MeetingType preferredMeetingType,
+                          MeetingTime preferredMeetingTime,
+                          boolean meetingParticipationDesire,
+                          boolean livingAlone,
+                          CounselingWillingness counselingWillingness) {
+
+    public static SurveyFacts from(FamilySurvey survey) {
+        return new SurveyFacts(
+                Boolean.TRUE.equals(survey.getSurveyCompleted()),
+                survey.getRelationshipToDeceased(),
+                survey.getGriefStage(),
+                survey.getFamilySupportLevel(),
+                survey.getPreferredMeetingType(),
+                survey.getPreferredMeetingTime(),
+                Boolean.TRUE.equals(survey.getMeetingParticipationDesire()),
+                Boolean.TRUE.equals(survey.getLivingAlone()),
+                survey.getCounselingWillingness());
+    }
+
+    // 집계/색인 쿼리 결과 행에서 offset 위치부터 항목을 읽는다
+    // 열 순서: 완료 여부, 관계, 애도 단계, 가족 지원 수준, 선호 모임 방식, 선호 모임 시간, 모임 참석 희망, 혼자 거주, 상담 의향
+    public static SurveyFacts fromRow(Object[] row, int offset) {
+        return new SurveyFacts(
+                Boolean.TRUE.equals(row[offset]),
+                (RelationshipToDeceased) row[offset + 1],
+                (GriefStage) row[offset + 2],
+                (FamilySupportLevel) row[offset + 3],
+                (MeetingType) row[offset + 4],
+                (MeetingTime) row[offset + 5],
+                Boolean.TRUE.equals(row[offset + 6]),
+                Boolean.TRUE.equals(row[offset + 7]),
+                (CounselingWillingness) row[offset + 8]);
+    }
+
+    public boolean counselingInterested() {
+        return counselingWillingness != null && counselingWillingness.isInterested();
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.cokothon.service;
+
+import com.example.cokothon.entity.CounselingWillingness;
+import com.example.cokothon.entity.FamilySupportLevel;
+import com.example.cokothon.entity.GriefStage;
+import com.example.cokothon.entity.MeetingTime;
+import com.example.cokothon.entity.MeetingType;
+import com.example.cokothon.entity.RelationshipToDeceased;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 비트맵 색인으로 조건 검색할 수 있는 설문조사 항목
+public enum SurveyFilterField {
+
+    RELATIONSHIP_TO_DECEASED("relationshipToDeceased", RelationshipToDeceased.class, facts -> nameOf(facts.relationshipToDeceased())),
+    GRIEF_STAGE("griefStage", GriefStage.class, facts -> nameOf(facts.griefStage())),
+    FAMILY_SUPPORT_LEVEL("familySupportLevel", FamilySupportLevel.class, facts -> nameOf(facts.familySupportLevel())),
+    COUNSELING_WILLINGNESS("counselingWillingness", CounselingWillingness.class, facts -> nameOf(facts.counselingWillingness())),
+    PREFERRED_MEETING_TYPE("preferredMeetingType", MeetingType.class, facts -> nameOf(facts.preferredMeetingType())),
+    PREFERRED_MEETING_TIME("preferredMeetingTime", MeetingTime.class, facts -> nameOf(facts.preferredMeetingTime())),
+    LIVING_ALONE("livingAlone", null, facts -> String.valueOf(facts.livingAlone())),
+    MEETING_PARTICIPATION_DESIRE("meetingParticipationDesire", null, facts -> String.valueOf(facts.meetingParticipationDesire())),
+    SURVEY_COMPLETED("surveyCompleted", null, facts -> String.valueOf(facts.completed()));
+
+    private final String fieldName;
+    private final Function<SurveyFacts, String> extractor;
+
+    // 조건에 쓸 수 있는 값 (열거형 이름, true/false 항목은 "true" / "false")
+    private final Set<String> values;
+    private final boolean flag;
+
+    SurveyFilterField(String fieldName, Class<? extends Enum<?>> type, Function<SurveyFacts, String> extractor) {
+        this.fieldName = fieldName;
+        this.extractor = extractor;
+        this.flag = type == null;
+        this.values = flag
+                ? Set.of("true", "false")
+                : Arrays.stream(type.getEnumConstants()).map(Enum::name).collect(Collectors.toUnmodifiableSet());
+    }
+
+    public static SurveyFilterField fromFieldName(String fieldName) {
+        for (SurveyFilterField field : values()) {
+            if (field.fieldName.equals(fieldName)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("조건으로 사용할 수 없는 항목입니다: " + fieldName);
+    }
+
+    public String valueOf(SurveyFacts facts) {
+        return extractor.apply(facts);
+    }
+
+    private static String nameOf(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+
+    // 요청 값을 색인 값 형식으로 맞춘다 (true/false 항목은 대소문자 구분 없이)
+    // 없는 값은 아무것도 찾지 못한 것처럼 보이지 않도록 IllegalArgumentException
+    public String normalize(String value) {
+        String normalized = null;
+        if (value != null) {
+            normalized = flag ? value.trim().toLowerCase(Locale.ROOT) : value.trim();
+        }
+        if (normalized == null || !values.contains(normalized)) {
+            throw new IllegalArgumentException("조건 값이 올바르지 않습니다: " + fieldName + "=" + value);
+        }
+        return normalized;
+    }
+}
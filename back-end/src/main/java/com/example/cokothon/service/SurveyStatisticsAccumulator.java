@@ -0,0 +1,84 @@
+package com.example.cokothon.service;
+
+import com.example.cokothon.dto.SurveyStatisticsResponse;
+import lombok.EqualsAndHashCode;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// 설문조사 항목 조합별 개수를 누적해 SurveyStatisticsResponse를 만든다
+// (관계/애도 단계/지원 수준/모임 방식 및 참석·상담·거주 통계는 완료된 설문조사 기준)
+@EqualsAndHashCode
+public class SurveyStatisticsAccumulator {
+
+    private long totalSurveys;
+    private long completedSurveys;
+    private long meetingParticipationDesired;
+    private long counselingInterested;
+    private long livingAloneCount;
+
+    private final Map<String, Long> relationshipStatistics = new HashMap<>();
+    private final Map<String, Long> griefStageStatistics = new HashMap<>();
+    private final Map<String, Long> familySupportLevelStatistics = new HashMap<>();
+    private final Map<String, Long> preferredMeetingTypeStatistics = new HashMap<>();
+
+    public void add(SurveyFacts facts, long count) {
+        totalSurveys += count;
+        if (!facts.completed()) {
+            return;
+        }
+
+        completedSurveys += count;
+        if (facts.meetingParticipationDesire()) {
+            meetingParticipationDesired += count;
+        }
+        if (facts.counselingInterested()) {
+            counselingInterested += count;
+        }
+        if (facts.livingAlone()) {
+            livingAloneCount += count;
+        }
+
+        addTo(relationshipStatistics, facts.relationshipToDeceased(), count);
+        addTo(griefStageStatistics, facts.griefStage(), count);
+        addTo(familySupportLevelStatistics, facts.familySupportLevel(), count);
+        addTo(preferredMeetingTypeStatistics, facts.preferredMeetingType(), count);
+    }
+
+    public SurveyStatisticsResponse toResponse() {
+        SurveyStatisticsResponse stats = new SurveyStatisticsResponse();
+        stats.setTotalSurveys(totalSurveys);
+        stats.setCompletedSurveys(completedSurveys);
+        stats.setIncompleteSurveys(totalSurveys - completedSurveys);
+
+        stats.setRelationshipStatistics(new HashMap<>(relationshipStatistics));
+        stats.setGriefStageStatistics(new HashMap<>(griefStageStatistics));
+
+        stats.setMeetingParticipationDesired(meetingParticipationDesired);
+        stats.setMeetingParticipationNotDesired(completedSurveys - meetingParticipationDesired);
+
+        stats.setCounselingInterested(counselingInterested);
+        stats.setCounselingNotInterested(completedSurveys - counselingInterested);
+
+        stats.setLivingAloneCount(livingAloneCount);
+        stats.setLivingWithFamilyCount(completedSurveys - livingAloneCount);
+
+        stats.setFamilySupportLevelStatistics(new HashMap<>(familySupportLevelStatistics));
+        stats.setPreferredMeetingTypeStatistics(new HashMap<>(preferredMeetingTypeStatistics));
+        return stats;
+    }
+
+    // 통계 키는 열거형 이름 (응답 형식 유지)
+    private static void addTo(Map<String, Long> statistics, Enum<?> value, long count) {
+        if (value == null) {
+            return;
+        }
+        String key = value.name();
+        long updated = statistics.getOrDefault(key, 0L) + count;
+        if (updated == 0) {
+            statistics.remove(key);
+        } else {
+            statistics.put(key, updated);
+        }
+    }
+}
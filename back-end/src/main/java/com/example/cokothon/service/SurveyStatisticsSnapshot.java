@@ -0,0 +1,100 @@
+package com.example.cokothon.service;
+
+import com.example.cokothon.dto.SurveyStatisticsResponse;
+import com.example.cokothon.repository.FamilySurveyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+// 설문조사 통계 스냅샷
+// 시작 시 전체 집계로 만들고, 이후에는 설문조사 변경분(이전 값 차감 + 새 값 가산)만 반영한다.
+// 주기적으로 전체 재집계 결과와 비교해 어긋나면 교체한다.
+// 커밋은 끝났지만 커밋 후 반영이 아직인 변경은 재집계에 이미 들어 있을 수 있으므로, 그런 변경이 있는 동안은 교체하지 않는다.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SurveyStatisticsSnapshot {
+
+    private final FamilySurveyRepository familySurveyRepository;
+
+    private SurveyStatisticsAccumulator accumulator = new SurveyStatisticsAccumulator();
+    private long version;
+    private volatile SurveyStatisticsResponse current = accumulator.toResponse();
+
+    // BEFORE_COMMIT은 지났지만 커밋 후 반영(또는 롤백)이 아직인 변경
+    private final Set<FamilySurveyChangedEvent> inFlight = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    public SurveyStatisticsResponse getStatistics() {
+        return current;
+    }
+
+    @EventListener(StartupRebuildEvent.class)
+    public synchronized void rebuild() {
+        accumulator = recount();
+        version++;
+        current = accumulator.toResponse();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public synchronized void onSurveyCommitting(FamilySurveyChangedEvent event) {
+        inFlight.add(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public synchronized void onSurveyRolledBack(FamilySurveyChangedEvent event) {
+        inFlight.remove(event);
+    }
+
+    @TransactionalEventListener
+    public synchronized void onSurveyChanged(FamilySurveyChangedEvent event) {
+        inFlight.remove(event);
+        if (event.getBefore() != null) {
+            accumulator.add(event.getBefore(), -1);
+        }
+        if (event.getAfter() != null) {
+            accumulator.add(event.getAfter(), 1);
+        }
+        version++;
+        current = accumulator.toResponse();
+    }
+
+    // 전체 재집계와 비교 (재집계 도중 변경이 반영되었거나 반영을 기다리는 변경이 있으면 이번 주기는 건너뜀)
+    @Scheduled(initialDelayString = "${survey.statistics.verify-interval-ms:600000}",
+               fixedDelayString = "${survey.statistics.verify-interval-ms:600000}")
+    public void verify() {
+        long startVersion;
+        synchronized (this) {
+            startVersion = version;
+        }
+
+        SurveyStatisticsAccumulator recounted = recount();
+
+        synchronized (this) {
+            if (version != startVersion || !inFlight.isEmpty()) {
+                return;
+            }
+            if (!recounted.equals(accumulator)) {
+                log.warn("설문조사 통계 스냅샷이 전체 재집계 결과와 달라 교체합니다.");
+                accumulator = recounted;
+                version++;
+                current = accumulator.toResponse();
+            }
+        }
+    }
+
+    private SurveyStatisticsAccumulator recount() {
+        SurveyStatisticsAccumulator recounted = new SurveyStatisticsAccumulator();
+        for (Object[] row : familySurveyRepository.getStatisticsGroups()) {
+            recounted.add(SurveyFacts.fromRow(row, 0), (Long) row[9]);
+        }
+        return recounted;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.cokothon.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+// 설문조사 추이의 시간 구간 기준
+// 주 단위는 월요일 시작 날짜, 월 단위는 해당 월의 1일 (epoch day를 정렬 키로 사용),
+// 사망 후 경과 개월은 수정 시점 기준 개월 수를 정렬 키로 사용한다.
+// 생성 시각 기준은 설문조사의 현재 상태를, 수정 시각 / 사망 후 경과 개월 기준(이력 기준)은 변경 이력을 집계한다.
+public enum SurveyTrendAxis {
+
+    CREATED_WEEK(false),
+    CREATED_MONTH(false),
+    UPDATED_WEEK(true),
+    UPDATED_MONTH(true),
+    MONTHS_SINCE_DEATH(true);
+
+    private final boolean history;
+
+    SurveyTrendAxis(boolean history) {
+        this.history = history;
+    }
+
+    // 변경 이력 기준인지 (지난 구간의 상태를 지우지 않는다)
+    public boolean isHistory() {
+        return history;
+    }
+
+    // 구간 정렬 키 (해당 구간에 넣을 수 없으면 null)
+    public Long bucketOf(SurveyTrendFacts facts) {
+        return switch (this) {
+            case CREATED_WEEK -> weekStart(facts.createdAt());
+            case CREATED_MONTH -> monthStart(facts.createdAt());
+            case UPDATED_WEEK -> weekStart(facts.updatedAt());
+            case UPDATED_MONTH -> monthStart(facts.updatedAt());
+            case MONTHS_SINCE_DEATH -> monthsSinceDeath(facts);
+        };
+    }
+
+    // 응답용 구간 이름 (예: 2026-01-05, 2026-01, 12)
+    public String labelOf(long bucket) {
+        return switch (this) {
+            case CREATED_WEEK, UPDATED_WEEK -> LocalDate.ofEpochDay(bucket).toString();
+            case CREATED_MONTH, UPDATED_MONTH -> YearMonth.from(LocalDate.ofEpochDay(bucket)).toString();
+            case MONTHS_SINCE_DEATH -> String.valueOf(bucket);
+        };
+    }
+
+    private static Long weekStart(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return null;
+        }
+        return dateTime.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).toEpochDay();
+    }
+
+    private static Long monthStart(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return null;
+        }
+        return dateTime.toLocalDate().withDayOfMonth(1).toEpochDay();
+    }
+
+    private static Long monthsSinceDeath(SurveyTrendFacts facts) {
+        if (facts.deathDate() == null || facts.updatedAt() == null) {
+            return null;
+        }
+        long months = ChronoUnit.MONTHS.between(facts.deathDate(), facts.updatedAt().toLocalDate());
+        return months >= 0 ? months : null;
+    }
+}
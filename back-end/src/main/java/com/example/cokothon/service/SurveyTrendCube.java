@@ -0,0 +1,125 @@
+package com.example.cokothon.service;
+
+import com.example.cokothon.dto.SurveyTrendResponse;
+import lombok.EqualsAndHashCode;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+// 시간 구간 × 항목 값별 설문조사 수 (완료된 설문조사 기준)
+// 생성 시각 기준은 현재 상태를, 이력 기준은 설문조사마다 구간별 마지막 상태를 센다 (SurveyTrendAxis.isHistory).
+// 개수가 0이 된 칸과 빈 구간은 지워서 같은 데이터면 항상 같은 구조가 되도록 한다 (재집계 결과와 equals로 비교).
+@EqualsAndHashCode
+public class SurveyTrendCube {
+
+    // 기준 -> (구간 정렬 키 -> (항목 -> (값 -> 개수)))
+    private final Map<SurveyTrendAxis, TreeMap<Long, Map<SurveyTrendDimension, Map<String, Long>>>> cells =
+            new EnumMap<>(SurveyTrendAxis.class);
+
+    // 설문조사 하나의 변경 반영 (생성이면 before, 삭제면 after가 null)
+    // 현재 상태 기준은 이전 값을 빼고 새 값을 더한다.
+    // 이력 기준은 지난 구간의 상태를 지우지 않고, 이전 값이 같은 구간일 때만 빼서 설문조사마다 구간별 마지막 상태가 남는다.
+    // 삭제된 설문조사도 지난 추이에는 남는다.
+    public void apply(SurveyTrendFacts before, SurveyTrendFacts after) {
+        for (SurveyTrendAxis axis : SurveyTrendAxis.values()) {
+            if (axis.isHistory()) {
+                if (after == null) {
+                    continue;
+                }
+                if (before != null && Objects.equals(axis.bucketOf(before), axis.bucketOf(after))) {
+                    add(axis, before, -1);
+                }
+                add(axis, after, 1);
+            } else {
+                if (before != null) {
+                    add(axis, before, -1);
+                }
+                if (after != null) {
+                    add(axis, after, 1);
+                }
+            }
+        }
+    }
+
+    // 현재 상태를 현재 상태 기준에 더한다 (재집계용)
+    public void addCurrent(SurveyTrendFacts facts) {
+        for (SurveyTrendAxis axis : SurveyTrendAxis.values()) {
+            if (!axis.isHistory()) {
+                add(axis, facts, 1);
+            }
+        }
+    }
+
+    // 설문조사 하나의 변경 이력(변경 순서대로)을 이력 기준에 더한다 (재집계용)
+    // 다음 이력과 같은 구간인 이력은 건너뛰어 apply와 같은 결과가 되도록 한다.
+    public void addHistory(List<SurveyTrendFacts> history) {
+        for (SurveyTrendAxis axis : SurveyTrendAxis.values()) {
+            if (!axis.isHistory()) {
+                continue;
+            }
+            for (int i = 0; i < history.size(); i++) {
+                SurveyTrendFacts facts = history.get(i);
+                if (i + 1 < history.size()
+                        && Objects.equals(axis.bucketOf(facts), axis.bucketOf(history.get(i + 1)))) {
+                    continue;
+                }
+                add(axis, facts, 1);
+            }
+        }
+    }
+
+    private void add(SurveyTrendAxis axis, SurveyTrendFacts facts, long count) {
+        if (!facts.completed()) {
+            return;
+        }
+        Long bucket = axis.bucketOf(facts);
+        if (bucket == null) {
+            return;
+        }
+        TreeMap<Long, Map<SurveyTrendDimension, Map<String, Long>>> buckets =
+                cells.computeIfAbsent(axis, key -> new TreeMap<>());
+        Map<SurveyTrendDimension, Map<String, Long>> dimensions =
+                buckets.computeIfAbsent(bucket, key -> new EnumMap<>(SurveyTrendDimension.class));
+        for (SurveyTrendDimension dimension : SurveyTrendDimension.values()) {
+            String value = dimension.valueOf(facts);
+            if (value == null) {
+                continue;
+            }
+            Map<String, Long> counts = dimensions.computeIfAbsent(dimension, key -> new HashMap<>());
+            long updated = counts.getOrDefault(value, 0L) + count;
+            if (updated == 0) {
+                counts.remove(value);
+            } else {
+                counts.put(value, updated);
+            }
+            if (counts.isEmpty()) {
+                dimensions.remove(dimension);
+            }
+        }
+        if (dimensions.isEmpty()) {
+            buckets.remove(bucket);
+        }
+        if (buckets.isEmpty()) {
+            cells.remove(axis);
+        }
+    }
+
+    public SurveyTrendResponse toResponse(SurveyTrendAxis axis, SurveyTrendDimension dimension) {
+        List<SurveyTrendResponse.Bucket> result = new ArrayList<>();
+        for (Map.Entry<Long, Map<SurveyTrendDimension, Map<String, Long>>> entry
+                : cells.getOrDefault(axis, new TreeMap<>()).entrySet()) {
+            Map<String, Long> counts = entry.getValue().get(dimension);
+            if (counts == null) {
+                continue;
+            }
+            long total = counts.values().stream().mapToLong(Long::longValue).sum();
+            result.add(new SurveyTrendResponse.Bucket(axis.labelOf(entry.getKey()), total, new HashMap<>(counts)));
+        }
+        return new SurveyTrendResponse(axis.name(), dimension.name(), result);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.cokothon.service;
+
+import java.util.function.Function;
+
+// 설문조사 추이로 볼 수 있는 항목
+public enum SurveyTrendDimension {
+
+    GRIEF_STAGE(facts -> facts.griefStage() != null ? facts.griefStage().name() : null),
+    COUNSELING_WILLINGNESS(facts -> facts.counselingWillingness() != null ? facts.counselingWillingness().name() : null),
+    MEETING_PARTICIPATION_DESIRE(facts -> String.valueOf(facts.meetingParticipationDesire()));
+
+    private final Function<SurveyTrendFacts, String> extractor;
+
+    SurveyTrendDimension(Function<SurveyTrendFacts, String> extractor) {
+        this.extractor = extractor;
+    }
+
+    public String valueOf(SurveyTrendFacts facts) {
+        return extractor.apply(facts);
+    }
+}
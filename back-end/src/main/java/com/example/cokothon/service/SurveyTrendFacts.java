@@ -0,0 +1,81 @@
+package com.example.cokothon.service;
+
+import com.example.cokothon.entity.CounselingWillingness;
+import com.example.cokothon.entity.FamilySurvey;
+import com.example.cokothon.entity.GriefStage;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+// 추이 집계에 쓰이는 설문조사 항목 (시간 항목 + 추이를 보는 항목)
+public record SurveyTrendFacts(boolean completed,
+                               LocalDateTime createdAt,
+                               LocalDateTime updatedAt,
+                               LocalDate deathDate,
+                               GriefStage griefStage,
+                               CounselingWillingness counselingWillingness,
+                               boolean meetingParticipationDesire) {
+
+    public static SurveyTrendFacts from(FamilySurvey survey) {
+        return new SurveyTrendFacts(
+                Boolean.TRUE.equals(survey.getSurveyCompleted()),
+                survey.getCreatedAt(),
+                survey.getUpdatedAt(),
+                survey.getDeathDate(),
+                survey.getGriefStage(),
+                survey.getCounselingWillingness(),
+                Boolean.TRUE.equals(survey.getMeetingParticipationDesire()));
+    }
+
+    // 추이 집계 쿼리 결과 행
+    // 열 순서: 완료 여부, 생성 시각, 수정 시각, 사망일, 애도 단계, 상담 의향, 모임 참석 희망
+    public static SurveyTrendFacts fromRow(Object[] row) {
+        return new SurveyTrendFacts(
+                Boolean.TRUE.equals(row[0]),
+                (LocalDateTime) row[1],
+                (LocalDateTime) row[2],
+                (LocalDate) row[3],
+                (GriefStage) row[4],
+                (CounselingWillingness) row[5],
+                Boolean.TRUE.equals(row[6]));
+    }
+
+    // 변경 이력 행 (생성 시각은 없음 - 이력 기준 집계에만 쓴다)
+    // 열 순서: 설문조사 ID, 완료 여부, 변경 시각, 사망일, 애도 단계, 상담 의향, 모임 참석 희망
+    public static SurveyTrendFacts fromHistoryRow(Object[] row) {
+        return new SurveyTrendFacts(
+                Boolean.TRUE.equals(row[1]),
+                null,
+                (LocalDateTime) row[2],
+                (LocalDate) row[3],
+                (GriefStage) row[4],
+                (CounselingWillingness) row[5],
+                Boolean.TRUE.equals(row[6]));
+    }
+
+    // 이력 기준 집계에서 같은 칸에 들어가는지 (둘 다 미완료면 집계되지 않으므로 같다고 본다)
+    // 같으면 변경 이력을 남기지 않아도 집계가 달라지지 않는다
+    public boolean sameHistoryCell(SurveyTrendFacts other) {
+        if (other == null) {
+            return false;
+        }
+        if (!completed && !other.completed) {
+            return true;
+        }
+        if (completed != other.completed) {
+            return false;
+        }
+        for (SurveyTrendAxis axis : SurveyTrendAxis.values()) {
+            if (axis.isHistory() && !Objects.equals(axis.bucketOf(this), axis.bucketOf(other))) {
+                return false;
+            }
+        }
+        for (SurveyTrendDimension dimension : SurveyTrendDimension.values()) {
+            if (!Objects.equals(dimension.valueOf(this), dimension.valueOf(other))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.cokothon.service;
+
+import com.example.cokothon.dto.SurveyTrendResponse;
+import com.example.cokothon.repository.FamilySurveyHistoryRepository;
+import com.example.cokothon.repository.FamilySurveyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+// 설문조사 추이 집계 (주/월 단위 생성·수정 시각, 사망 후 경과 개월 × 애도 단계 / 상담 의향 / 모임 참석 희망)
+// 생성 시각 기준은 설문조사 테이블의 현재 상태로, 수정 시각 / 사망 후 경과 개월 기준은 변경 이력 테이블로 만든다.
+// 시작 시 한 번 전체를 읽어 만들고, 이후에는 설문조사 변경분만 반영하므로 추이 조회는 테이블을 읽지 않는다.
+// 통계 스냅샷과 같이 주기적으로 전체 재집계와 비교해 어긋나면 교체하고,
+// 커밋은 끝났지만 커밋 후 반영이 아직인 변경이 있는 동안은 교체하지 않는다.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SurveyTrendRollup {
+
+    private final FamilySurveyRepository familySurveyRepository;
+    private final FamilySurveyHistoryRepository familySurveyHistoryRepository;
+
+    private SurveyTrendCube cube = new SurveyTrendCube();
+    private long version;
+
+    // BEFORE_COMMIT은 지났지만 커밋 후 반영(또는 롤백)이 아직인 변경
+    private final Set<FamilySurveyChangedEvent> inFlight = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    public synchronized SurveyTrendResponse getTrends(SurveyTrendAxis axis, SurveyTrendDimension dimension) {
+        return cube.toResponse(axis, dimension);
+    }
+
+    @EventListener(StartupRebuildEvent.class)
+    public synchronized void rebuild() {
+        cube = recount();
+        version++;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public synchronized void onSurveyCommitting(FamilySurveyChangedEvent event) {
+        inFlight.add(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public synchronized void onSurveyRolledBack(FamilySurveyChangedEvent event) {
+        inFlight.remove(event);
+    }
+
+    @TransactionalEventListener
+    public synchronized void onSurveyChanged(FamilySurveyChangedEvent event) {
+        inFlight.remove(event);
+        cube.apply(event.getBeforeTrend(), event.getAfterTrend());
+        version++;
+    }
+
+    // 전체 재집계와 비교 (재집계 도중 변경이 반영되었거나 반영을 기다리는 변경이 있으면 이번 주기는 건너뜀)
+    @Scheduled(initialDelayString = "${survey.trends.verify-interval-ms:600000}",
+               fixedDelayString = "${survey.trends.verify-interval-ms:600000}")
+    public void verify() {
+        long startVersion;
+        synchronized (this) {
+            startVersion = version;
+        }
+
+        SurveyTrendCube recounted = recount();
+
+        synchronized (this) {
+            if (version != startVersion || !inFlight.isEmpty()) {
+                return;
+            }
+            if (!recounted.equals(cube)) {
+                log.warn("설문조사 추이 집계가 전체 재집계 결과와 달라 교체합니다.");
+                cube = recounted;
+                version++;
+            }
+        }
+    }
+
+    private SurveyTrendCube recount() {
+        SurveyTrendCube recounted = new SurveyTrendCube();
+        for (Object[] row : familySurveyRepository.getTrendRows()) {
+            recounted.addCurrent(SurveyTrendFacts.fromRow(row));
+        }
+
+        // 이력 행은 설문조사별로 모여 있다
+        Long surveyId = null;
+        List<SurveyTrendFacts> history = new ArrayList<>();
+        for (Object[] row : familySurveyHistoryRepository.getTrendRows()) {
+            if (!row[0].equals(surveyId)) {
+                recounted.addHistory(history);
+                history = new ArrayList<>();
+                surveyId = (Long) row[0];
+            }
+            history.add(SurveyTrendFacts.fromHistoryRow(row));
+        }
+        recounted.addHistory(history);
+        return recounted;
+    }
+}
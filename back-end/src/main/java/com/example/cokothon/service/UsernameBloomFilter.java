@@ -0,0 +1,196 @@
+package com.example.cokothon.service;
+
+import com.example.cokothon.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 사용자명 블룸 필터 (로그인 / 회원가입 시 존재하지 않는 사용자명은 DB 조회 없이 판정)
+// 단일 서버(기본값, authoritative=true)에서는 모든 가입이 이 필터를 거치므로 "없음"이 확실하고,
+// 로그인 실패(크리덴셜 스터핑 등)를 조회 없이 돌려보낸다.
+// 여러 서버가 사용자 테이블을 공유하면 필터가 JVM마다 따로 있어 다른 서버에서 가입한 사용자명은 다음 동기화 전까지 빠져 있으므로,
+// authoritative=false로 두어 "없음"을 힌트로만 쓰고 로그인은 항상 DB로 확인한다. 회원가입은 어느 경우든 유니크 제약으로 최종 판정한다.
+// 비트는 CAS로만 켜므로 조회와 추가에 잠금이 없다. 사용자명은 삭제되지 않으므로 비트를 끌 일이 없고,
+// 시작 시 구성한 뒤 회원가입마다 추가하며, 주기적으로 마지막 동기화 이후 ID의 사용자명을 가져와 채운다.
+// 현재 채워진 비트 비율로 계산한 오탐 확률은 auth.username.filter.fpp 지표로 노출된다.
+@Component
+@Slf4j
+public class UsernameBloomFilter {
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final UserRepository userRepository;
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final AtomicLong setBits = new AtomicLong();
+
+    private final Counter definitelyAbsent;
+    private final Counter mightContain;
+    private final Counter falsePositives;
+    private final Counter falseNegatives;
+
+    // 마지막으로 동기화한 사용자 ID
+    private long lastSyncedId;
+
+    // "없음" 판정만으로 로그인을 거절해도 되는지 (여러 서버 배포에서는 false)
+    private final boolean authoritative;
+
+    // 구성이 끝나기 전에는 모든 사용자명을 "있을 수 있음"으로 답한다
+    private volatile boolean ready;
+
+    public UsernameBloomFilter(UserRepository userRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${auth.username-filter.expected-usernames:100000}") long expectedUsernames,
+                               @Value("${auth.username-filter.fpp:0.01}") double targetFpp,
+                               @Value("${auth.username-filter.authoritative:true}") boolean authoritative) {
+        this.userRepository = userRepository;
+        this.authoritative = authoritative;
+
+        // m = -n ln p / (ln 2)^2, k = m / n ln 2
+        long m = (long) Math.ceil(-expectedUsernames * Math.log(targetFpp) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (m + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = words * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedUsernames * Math.log(2)));
+
+        Gauge.builder("auth.username.filter.fpp", this, UsernameBloomFilter::estimatedFpp)
+                .description("Estimated false-positive probability of the username Bloom filter")
+                .register(meterRegistry);
+        this.definitelyAbsent = Counter.builder("auth.username.filter.checks")
+                .tag("result", "absent")
+                .register(meterRegistry);
+        this.mightContain = Counter.builder("auth.username.filter.checks")
+                .tag("result", "maybe")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("auth.username.filter.false.positives")
+                .description("Usernames the filter reported as present but the database did not have")
+                .register(meterRegistry);
+        this.falseNegatives = Counter.builder("auth.username.filter.false.negatives")
+                .description("Usernames the filter reported as absent but the database had (not yet synced on this instance)")
+                .register(meterRegistry);
+    }
+
+    // 웹 서버가 요청을 받기 전에 저장된 사용자명으로 구성
+    @EventListener(StartupRebuildEvent.class)
+    public void rebuild() {
+        int count = syncNewUsernames();
+        ready = true;
+        log.info("사용자명 블룸 필터 구성 완료: 사용자 {}명, 비트 {}개, 해시 {}개, 예상 오탐률 {}",
+                count, bitCount, hashCount, String.format("%.6f", estimatedFpp()));
+    }
+
+    // 다른 인스턴스에서 가입한 사용자명 반영 (authoritative=false일 때만 - 단일 서버에서는 모든 가입이 put을 거친다)
+    // ID 블록을 인스턴스마다 미리 할당하므로 늦게 커밋된 작은 ID는 놓칠 수 있지만,
+    // 그런 사용자명은 로그인 시 DB에서 확인되면 바로 추가된다
+    @Scheduled(initialDelayString = "${auth.username-filter.sync-interval-ms:60000}",
+               fixedDelayString = "${auth.username-filter.sync-interval-ms:60000}")
+    public void sync() {
+        if (!ready || authoritative) {
+            return;
+        }
+        int count = syncNewUsernames();
+        if (count > 0) {
+            log.debug("사용자명 블룸 필터 동기화: 사용자 {}명 추가", count);
+        }
+    }
+
+    private synchronized int syncNewUsernames() {
+        int count = 0;
+        List<Object[]> batch;
+        do {
+            batch = userRepository.findUsernamesAfter(lastSyncedId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            for (Object[] row : batch) {
+                lastSyncedId = (Long) row[0];
+                put((String) row[1]);
+                count++;
+            }
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+        return count;
+    }
+
+    public boolean isAuthoritative() {
+        return authoritative;
+    }
+
+    // false면 이 인스턴스가 아는 범위에서는 없다 (여러 서버 배포에서는 동기화 전의 사용자명일 수 있음)
+    public boolean mightContain(String username) {
+        if (!ready) {
+            return true;
+        }
+        long hash = hash(username);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                definitelyAbsent.increment();
+                return false;
+            }
+        }
+        mightContain.increment();
+        return true;
+    }
+
+    public void put(String username) {
+        long hash = hash(username);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+            if ((current & mask) == 0) {
+                setBits.incrementAndGet();
+            }
+        }
+    }
+
+    // 필터는 "있을 수 있음"이라 했지만 DB에 없던 경우
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    // 필터는 "없음"이라 했지만 DB에 있던 경우 - 다음 판정부터는 바로 맞도록 추가
+    public void recordFalseNegative(String username) {
+        falseNegatives.increment();
+        put(username);
+    }
+
+    // (켜진 비트 비율)^k
+    public double estimatedFpp() {
+        return Math.pow((double) setBits.get() / bitCount, hashCount);
+    }
+
+    // 64비트 FNV-1a 후 MurmurHash3 finalizer로 섞어 상위/하위 32비트를 두 해시로 쓴다 (double hashing)
+    private static long hash(String username) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < username.length(); i++) {
+            h ^= username.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
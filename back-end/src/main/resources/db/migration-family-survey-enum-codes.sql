@@ -0,0 +1,58 @@
+-- family_surveys: 범주형 문자열 열 -> SMALLINT 코드 (entity 패키지 열거형의 code 값)
+-- 문자열 열로 만들어진 기존 DB에 한 번 실행한다 (ddl-auto=create-drop 개발 환경에서는 필요 없음).
+-- 목록에 없는 값은 NULL로 바꾸고, 필수 항목인 relationship_to_deceased만 OTHER로 바꾼 뒤 원래 값을 관계 설명에 남긴다.
+
+ALTER TABLE family_surveys ADD COLUMN gender_code SMALLINT;
+ALTER TABLE family_surveys ADD COLUMN relationship_to_deceased_code SMALLINT;
+ALTER TABLE family_surveys ADD COLUMN family_support_level_code SMALLINT;
+ALTER TABLE family_surveys ADD COLUMN grief_stage_code SMALLINT;
+ALTER TABLE family_surveys ADD COLUMN counseling_willingness_code SMALLINT;
+ALTER TABLE family_surveys ADD COLUMN preferred_meeting_type_code SMALLINT;
+ALTER TABLE family_surveys ADD COLUMN preferred_meeting_time_code SMALLINT;
+
+UPDATE family_surveys SET
+    gender_code = CASE UPPER(TRIM(gender))
+        WHEN 'MALE' THEN 1 WHEN 'FEMALE' THEN 2 WHEN 'OTHER' THEN 3 END,
+    relationship_to_deceased_code = CASE UPPER(TRIM(relationship_to_deceased))
+        WHEN 'SPOUSE' THEN 1 WHEN 'CHILD' THEN 2 WHEN 'PARENT' THEN 3 WHEN 'SIBLING' THEN 4 ELSE 5 END,
+    relationship_description = CASE
+        WHEN UPPER(TRIM(relationship_to_deceased)) IN ('SPOUSE', 'CHILD', 'PARENT', 'SIBLING', 'OTHER')
+            THEN relationship_description
+        ELSE COALESCE(relationship_description, relationship_to_deceased) END,
+    family_support_level_code = CASE UPPER(TRIM(family_support_level))
+        WHEN 'HIGH' THEN 1 WHEN 'MEDIUM' THEN 2 WHEN 'LOW' THEN 3 WHEN 'NONE' THEN 4 END,
+    grief_stage_code = CASE UPPER(TRIM(grief_stage))
+        WHEN 'DENIAL' THEN 1 WHEN 'ANGER' THEN 2 WHEN 'BARGAINING' THEN 3
+        WHEN 'DEPRESSION' THEN 4 WHEN 'ACCEPTANCE' THEN 5 END,
+    counseling_willingness_code = CASE UPPER(TRIM(counseling_willingness))
+        WHEN 'VERY_INTERESTED' THEN 1 WHEN 'INTERESTED' THEN 2 WHEN 'NEUTRAL' THEN 3 WHEN 'NOT_INTERESTED' THEN 4 END,
+    preferred_meeting_type_code = CASE UPPER(TRIM(preferred_meeting_type))
+        WHEN 'ONLINE' THEN 1 WHEN 'OFFLINE' THEN 2 WHEN 'BOTH' THEN 3 END,
+    preferred_meeting_time_code = CASE UPPER(TRIM(preferred_meeting_time))
+        WHEN 'WEEKDAY_MORNING' THEN 1 WHEN 'WEEKDAY_AFTERNOON' THEN 2
+        WHEN 'WEEKDAY_EVENING' THEN 3 WHEN 'WEEKEND' THEN 4 END;
+
+ALTER TABLE family_surveys DROP COLUMN gender;
+ALTER TABLE family_surveys DROP COLUMN relationship_to_deceased;
+ALTER TABLE family_surveys DROP COLUMN family_support_level;
+ALTER TABLE family_surveys DROP COLUMN grief_stage;
+ALTER TABLE family_surveys DROP COLUMN counseling_willingness;
+ALTER TABLE family_surveys DROP COLUMN preferred_meeting_type;
+ALTER TABLE family_surveys DROP COLUMN preferred_meeting_time;
+
+ALTER TABLE family_surveys RENAME COLUMN gender_code TO gender;
+ALTER TABLE family_surveys RENAME COLUMN relationship_to_deceased_code TO relationship_to_deceased;
+ALTER TABLE family_surveys RENAME COLUMN family_support_level_code TO family_support_level;
+ALTER TABLE family_surveys RENAME COLUMN grief_stage_code TO grief_stage;
+ALTER TABLE family_surveys RENAME COLUMN counseling_willingness_code TO counseling_willingness;
+ALTER TABLE family_surveys RENAME COLUMN preferred_meeting_type_code TO preferred_meeting_type;
+ALTER TABLE family_surveys RENAME COLUMN preferred_meeting_time_code TO preferred_meeting_time;
+
+ALTER TABLE family_surveys ALTER COLUMN relationship_to_deceased SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_family_surveys_completed_id ON family_surveys (survey_completed, id);
+CREATE INDEX IF NOT EXISTS idx_family_surveys_relationship_id ON family_surveys (relationship_to_deceased, id);
+CREATE INDEX IF NOT EXISTS idx_family_surveys_counseling_id ON family_surveys (counseling_willingness, id);
+CREATE INDEX IF NOT EXISTS idx_family_surveys_meeting_id ON family_surveys (meeting_participation_desire, id);
+CREATE INDEX IF NOT EXISTS idx_family_surveys_living_alone_id ON family_surveys (living_alone, id);
+CREATE INDEX IF NOT EXISTS idx_family_surveys_completed_grief ON family_surveys (survey_completed, grief_stage);
@@ -0,0 +1,19 @@
+-- family_survey_history: 설문조사 변경 이력 테이블 추가 (FamilySurveyHistory)
+-- 이력 테이블 없이 만들어진 기존 DB에 한 번 실행한다 (ddl-auto=create-drop 개발 환경에서는 필요 없음).
+-- 기존 설문조사의 첫 이력은 시작 시 DataInitializer가 현재 상태로 채운다.
+
+CREATE SEQUENCE family_survey_history_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE family_survey_history (
+    id BIGINT NOT NULL PRIMARY KEY,
+    survey_id BIGINT NOT NULL,
+    survey_version BIGINT NOT NULL,
+    changed_at TIMESTAMP,
+    survey_completed BOOLEAN,
+    death_date DATE,
+    grief_stage SMALLINT,
+    counseling_willingness SMALLINT,
+    meeting_participation_desire BOOLEAN
+);
+
+CREATE INDEX idx_family_survey_history_survey_version ON family_survey_history (survey_id, survey_version);
@@ -0,0 +1,5 @@
+-- family_surveys: 낙관적 잠금용 version 열 추가 (FamilySurvey.version)
+-- version 열 없이 만들어진 기존 DB에 한 번 실행한다 (ddl-auto=create-drop 개발 환경에서는 필요 없음).
+-- 기존 행은 0부터 시작한다.
+
+ALTER TABLE family_surveys ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
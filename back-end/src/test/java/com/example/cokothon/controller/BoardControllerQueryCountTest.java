@@ -0,0 +1,121 @@
+package com.example.cokothon.controller;
+
+import com.example.cokothon.service.BoardCache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+class BoardControllerQueryCountTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private BoardCache boardCache;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		boardCache.invalidateAll();
+	}
+
+	@Test
+	void getAllBoards() throws Exception {
+		// 목록 + 카테고리별 게시글 수 합계
+		assertStatementCount(get("/api/boards").param("size", "2"), 2);
+		// 캐시 적중
+		assertStatementCount(get("/api/boards").param("size", "2"), 0);
+	}
+
+	@Test
+	void getAllBoardsWithSearch() throws Exception {
+		// 검색 색인에서 찾은 현재 페이지만 조회
+		assertStatementCount(get("/api/boards").param("size", "2").param("search", "안녕"), 1);
+	}
+
+	@Test
+	void getBoardsByCategory() throws Exception {
+		// 카테고리 게시글 수 + 목록
+		assertStatementCount(get("/api/boards/category/1").param("size", "2"), 2);
+		// 캐시 적중
+		assertStatementCount(get("/api/boards/category/1").param("size", "2"), 0);
+	}
+
+	@Test
+	void scrollBoards() throws Exception {
+		assertStatementCount(get("/api/boards/scroll").param("size", "2"), 1);
+	}
+
+	@Test
+	void scrollBoardsByCategory() throws Exception {
+		// 카테고리 확인은 스냅샷에서 처리
+		assertStatementCount(get("/api/boards/category/1/scroll").param("size", "2"), 1);
+	}
+
+	@Test
+	void getBoardById() throws Exception {
+		assertStatementCount(get("/api/boards/1"), 1);
+		// 캐시 적중
+		assertStatementCount(get("/api/boards/1"), 0);
+	}
+
+	@Test
+	void searchBoards() throws Exception {
+		assertStatementCount(get("/api/boards/search").param("size", "2").param("keyword", "안녕"), 1);
+	}
+
+	@Test
+	void createUpdateDeleteBoard() throws Exception {
+		String body = "{\"title\":\"쿼리 수 확인\",\"content\":\"내용\",\"author\":\"테스터\",\"categoryId\":1}";
+
+		// insert + 게시글 수 증가 (카테고리 확인은 스냅샷에서 처리)
+		assertStatementCount(post("/api/boards").contentType(MediaType.APPLICATION_JSON).content(body), 2);
+
+		Long id = latestBoardId();
+
+		// 게시글 조회 + update
+		String updated = body.replace("쿼리 수 확인", "쿼리 수 확인 (수정)");
+		assertStatementCount(put("/api/boards/" + id).contentType(MediaType.APPLICATION_JSON).content(updated), 2);
+
+		// 게시글 조회 + delete + 게시글 수 감소
+		assertStatementCount(delete("/api/boards/" + id), 3);
+	}
+
+	private Long latestBoardId() {
+		EntityManager entityManager = entityManagerFactory.createEntityManager();
+		try {
+			return entityManager.createQuery("SELECT MAX(b.id) FROM Board b", Long.class).getSingleResult();
+		} finally {
+			entityManager.close();
+		}
+	}
+
+	private void assertStatementCount(RequestBuilder request, long expected) throws Exception {
+		statistics.clear();
+		mockMvc.perform(request).andExpect(status().isOk());
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(expected);
+	}
+}
@@ -0,0 +1,100 @@
+package com.example.cokothon.service;
+
+import com.example.cokothon.service.AccessTokenService.AccessToken;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AccessTokenServiceTest {
+
+	private static final String SECRET = Base64.getEncoder().encodeToString(new byte[32]);
+	private static final String OTHER_SECRET = Base64.getEncoder().encodeToString("another-secret-with-32-bytes-!!!".getBytes(StandardCharsets.UTF_8));
+
+	private final SessionPrincipal principal = new SessionPrincipal(7L, "홍|길동", true);
+
+	@Test
+	void verifiesIssuedTokenOnAnyInstanceWithSameSecret() {
+		AccessToken token = service(SECRET, Duration.ofHours(1)).issue(principal);
+
+		AccessToken verified = service(SECRET, Duration.ofHours(1)).verify(token.value()).orElseThrow();
+		assertThat(verified.principal()).isEqualTo(principal);
+		assertThat(verified.tokenId()).isEqualTo(token.tokenId());
+		assertThat(verified.expiresAt()).isEqualTo(token.expiresAt());
+	}
+
+	@Test
+	void rejectsTamperedOrForeignTokens() {
+		AccessTokenService service = service(SECRET, Duration.ofHours(1));
+		String value = service.issue(principal).value();
+		int dot = value.indexOf('.');
+
+		// 본문을 바꾸고 원래 서명을 붙인 토큰
+		String body = new String(Base64.getUrlDecoder().decode(value.substring(0, dot)), StandardCharsets.UTF_8);
+		String forged = Base64.getUrlEncoder().withoutPadding()
+				.encodeToString(body.replace("|1|", "|0|").getBytes(StandardCharsets.UTF_8)) + value.substring(dot);
+		assertThat(service.verify(forged)).isEmpty();
+
+		assertThat(service(OTHER_SECRET, Duration.ofHours(1)).verify(value)).isEmpty();
+		assertThat(service.verify(value + "x")).isEmpty();
+	}
+
+	@Test
+	void rejectsMalformedTokens() {
+		AccessTokenService service = service(SECRET, Duration.ofHours(1));
+
+		assertThat(service.verify("")).isEmpty();
+		assertThat(service.verify("abc")).isEmpty();
+		assertThat(service.verify(".abc")).isEmpty();
+		assertThat(service.verify("a.b.c")).isEmpty();
+		assertThat(service.verify("!!!.???")).isEmpty();
+	}
+
+	@Test
+	void rejectsExpiredTokens() {
+		AccessTokenService service = service(SECRET, Duration.ofSeconds(-1));
+
+		assertThat(service.verify(service.issue(principal).value())).isEmpty();
+	}
+
+	@Test
+	void rejectsRevokedTokensUntilTheyExpire() {
+		AccessTokenService service = service(SECRET, Duration.ofHours(1));
+		AccessToken revoked = service.issue(principal);
+		AccessToken other = service.issue(principal);
+
+		service.revoke(revoked);
+
+		assertThat(service.verify(revoked.value())).isEmpty();
+		assertThat(service.verify(other.value())).isPresent();
+		// 아직 만료되지 않은 폐기 토큰은 정리 후에도 남는다
+		service.purgeExpiredRevocations();
+		assertThat(service.countRevoked()).isEqualTo(1);
+	}
+
+	@Test
+	void purgesRevocationsPastExpiry() {
+		AccessTokenService service = service(SECRET, Duration.ofSeconds(-1));
+		service.revoke(service.issue(principal));
+
+		service.purgeExpiredRevocations();
+
+		assertThat(service.countRevoked()).isZero();
+	}
+
+	@Test
+	void rejectsShortSecret() {
+		String shortSecret = Base64.getEncoder().encodeToString(new byte[16]);
+
+		assertThatThrownBy(() -> service(shortSecret, Duration.ofHours(1)))
+				.isInstanceOf(IllegalStateException.class);
+	}
+
+	private static AccessTokenService service(String secret, Duration ttl) {
+		return new AccessTokenService(true, ttl, secret);
+	}
+}
@@ -0,0 +1,78 @@
+package com.example.cokothon.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthThrottleTest {
+
+	@Test
+	void allowsBurstUpToCapacity() {
+		AuthThrottle throttle = throttle(3, Duration.ofHours(1), 100, Duration.ofHours(1));
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(throttle.tryAcquire("login", "user" + i, "10.0.0.1")).isZero();
+		}
+		assertThat(throttle.tryAcquire("login", "user3", "10.0.0.1")).isPositive();
+	}
+
+	@Test
+	void refillsOneTokenPerInterval() throws InterruptedException {
+		AuthThrottle throttle = throttle(1, Duration.ofSeconds(1), 100, Duration.ofSeconds(1));
+
+		assertThat(throttle.tryAcquire("login", "alice", "10.0.0.1")).isZero();
+		assertThat(throttle.tryAcquire("login", "alice", "10.0.0.1")).isPositive();
+
+		Thread.sleep(1100);
+		assertThat(throttle.tryAcquire("login", "alice", "10.0.0.1")).isZero();
+	}
+
+	@Test
+	void limitsEachAddressSeparately() {
+		AuthThrottle throttle = throttle(2, Duration.ofHours(1), 100, Duration.ofHours(1));
+
+		assertThat(throttle.tryAcquire("login", "a", "10.0.0.1")).isZero();
+		assertThat(throttle.tryAcquire("login", "b", "10.0.0.1")).isZero();
+		assertThat(throttle.tryAcquire("login", "c", "10.0.0.1")).isPositive();
+		// 다른 IP와 다른 동작은 별도 버킷
+		assertThat(throttle.tryAcquire("login", "c", "10.0.0.2")).isZero();
+		assertThat(throttle.tryAcquire("register", "c", "10.0.0.1")).isZero();
+	}
+
+	@Test
+	void limitsUsernameAcrossAddresses() {
+		AuthThrottle throttle = throttle(100, Duration.ofHours(1), 2, Duration.ofHours(1));
+
+		assertThat(throttle.tryAcquire("login", "alice", "10.0.0.1")).isZero();
+		assertThat(throttle.tryAcquire("login", "alice", "10.0.0.2")).isZero();
+		// IP를 바꾸거나 대소문자를 바꿔도 같은 사용자명 버킷
+		assertThat(throttle.tryAcquire("login", "ALICE", "10.0.0.3")).isPositive();
+		assertThat(throttle.tryAcquire("login", "bob", "10.0.0.3")).isZero();
+	}
+
+	@Test
+	void rejectedAddressDoesNotSpendUsernameTokens() {
+		AuthThrottle throttle = throttle(1, Duration.ofHours(1), 1, Duration.ofHours(1));
+
+		assertThat(throttle.tryAcquire("login", "a", "10.0.0.1")).isZero();
+		assertThat(throttle.tryAcquire("login", "alice", "10.0.0.1")).isPositive();
+		assertThat(throttle.tryAcquire("login", "alice", "10.0.0.2")).isZero();
+	}
+
+	@Test
+	void reportsSecondsUntilNextToken() {
+		AuthThrottle throttle = throttle(100, Duration.ofSeconds(1), 2, Duration.ofSeconds(30));
+
+		throttle.tryAcquire("login", "alice", "10.0.0.1");
+		throttle.tryAcquire("login", "alice", "10.0.0.1");
+
+		assertThat(throttle.tryAcquire("login", "alice", "10.0.0.1")).isEqualTo(30);
+	}
+
+	private static AuthThrottle throttle(int ipCapacity, Duration ipInterval, int usernameCapacity, Duration usernameInterval) {
+		return new AuthThrottle(new SimpleMeterRegistry(), 1000, ipCapacity, ipInterval, usernameCapacity, usernameInterval);
+	}
+}
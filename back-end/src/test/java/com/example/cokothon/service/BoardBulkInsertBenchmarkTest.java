@@ -0,0 +1,86 @@
+package com.example.cokothon.service;
+
+import com.example.cokothon.dto.BoardCreateRequest;
+import jakarta.persistence.EntityManagerFactory;
+import org.h2.tools.Server;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 게시글 일괄 등록 벤치마크 (기본 빌드에서는 건너뜀)
+// 실행: mvn test -Dtest=BoardBulkInsertBenchmarkTest -Dbenchmark=true
+// 왕복 횟수가 보이도록 H2 메모리 DB를 루프백 TCP 서버로 띄우고, 한 트랜잭션에 ROWS개씩 ROUNDS회 등록하며
+// 회차별 SQL 문 수(시퀀스 호출 + 배치 insert)와 초당 행 수를 출력한다.
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false"
+})
+class BoardBulkInsertBenchmarkTest {
+
+	private static final int ROWS = 20000;
+	private static final int ROUNDS = 6;
+
+	// 시퀀스 allocationSize / hibernate.jdbc.batch_size
+	private static final int BATCH_SIZE = 50;
+
+	@Autowired
+	private BoardService boardService;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@DynamicPropertySource
+	static void tcpDatabase(DynamicPropertyRegistry registry) throws SQLException {
+		// 데몬 스레드로 띄워 컨텍스트 종료(테이블 삭제)가 끝날 때까지 살아 있게 둔다
+		Server server = Server.createTcpServer("-tcpPort", "0", "-tcpDaemon", "-ifNotExists").start();
+		registry.add("spring.datasource.url",
+				() -> "jdbc:h2:tcp://localhost:" + server.getPort() + "/mem:benchmark;DB_CLOSE_DELAY=-1");
+	}
+
+	@Test
+	void bulkInsertThroughput() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		List<BoardCreateRequest> requests = requests();
+
+		for (int round = 1; round <= ROUNDS; round++) {
+			statistics.clear();
+			long startedAt = System.nanoTime();
+			int created = boardService.createBoards(requests);
+			long elapsedNanos = System.nanoTime() - startedAt;
+
+			long statements = statistics.getPrepareStatementCount();
+			System.out.printf("round %d: %d rows, %d statements, %d ms, %.0f rows/sec%n",
+					round, created, statements, elapsedNanos / 1_000_000, created * 1e9 / elapsedNanos);
+
+			assertThat(created).isEqualTo(ROWS);
+			// BATCH_SIZE행마다 배치 insert 1번 + 시퀀스 호출 1번 (+ 카테고리 게시글 수 반영)
+			assertThat(statements).isLessThanOrEqualTo(2L * ROWS / BATCH_SIZE + 5);
+		}
+	}
+
+	private static List<BoardCreateRequest> requests() {
+		List<BoardCreateRequest> requests = new ArrayList<>(ROWS);
+		for (int i = 0; i < ROWS; i++) {
+			BoardCreateRequest request = new BoardCreateRequest();
+			request.setTitle("벤치마크 게시글 " + i);
+			request.setContent("벤치마크 내용 " + i);
+			request.setAuthor("벤치마크");
+			request.setCategoryId(1L);
+			requests.add(request);
+		}
+		return requests;
+	}
+}
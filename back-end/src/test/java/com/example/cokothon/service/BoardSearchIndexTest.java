@@ -0,0 +1,92 @@
+package com.example.cokothon.service;
+
+import com.example.cokothon.entity.Board;
+import com.example.cokothon.entity.Category;
+import com.example.cokothon.repository.BoardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class BoardSearchIndexTest {
+
+	private BoardSearchIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new BoardSearchIndex(mock(BoardRepository.class));
+	}
+
+	@Test
+	void matchesConsecutiveBigramsOnly() {
+		index.index(board(1L, "안녕하세요", "반갑습니다", 1));
+		// "안녕"과 "하세"는 모두 있지만 "녕하"로 이어지지 않는 게시글
+		index.index(board(2L, "안녕 여러분", "하세요", 2));
+
+		assertThat(index.search("녕하")).containsExactly(1L);
+		assertThat(index.search("안녕하세요")).containsExactly(1L);
+		assertThat(index.search("안녕")).containsExactly(2L, 1L);
+	}
+
+	@Test
+	void doesNotMatchAcrossTitleAndContent() {
+		index.index(board(1L, "스프링", "부트", 1));
+
+		assertThat(index.search("링부")).isEmpty();
+		assertThat(index.search("스프링")).containsExactly(1L);
+		assertThat(index.search("부트")).containsExactly(1L);
+	}
+
+	@Test
+	void matchesRepeatedGramAtLaterPosition() {
+		// 첫 번째 "ab"는 뒤가 맞지 않고 두 번째 "ab"에서 일치
+		index.index(board(1L, "abxabc", "", 1));
+
+		assertThat(index.search("abc")).containsExactly(1L);
+		assertThat(index.search("abx")).containsExactly(1L);
+		assertThat(index.search("abd")).isEmpty();
+	}
+
+	@Test
+	void singleCharacterAndCaseInsensitiveSearch() {
+		index.index(board(1L, "Java 입문", "", 1));
+		index.index(board(2L, "자바", "", 2));
+
+		assertThat(index.search("JAVA")).containsExactly(1L);
+		assertThat(index.search("j")).containsExactly(1L);
+		// 필드의 마지막 글자도 한 글자 검색에 걸린다
+		assertThat(index.search("바")).containsExactly(2L);
+		assertThat(index.search("   ")).isEmpty();
+	}
+
+	@Test
+	void reindexAndRemoveDropOldPostings() {
+		index.index(board(1L, "오래된 제목", "", 1));
+		index.index(board(1L, "새 제목", "", 1));
+
+		assertThat(index.search("오래")).isEmpty();
+		assertThat(index.search("새 제")).containsExactly(1L);
+
+		index.remove(1L);
+		assertThat(index.search("제목")).isEmpty();
+	}
+
+	@Test
+	void ordersNewestFirst() {
+		index.index(board(1L, "공지", "", 3));
+		index.index(board(2L, "공지", "", 1));
+		index.index(board(3L, "공지", "", 2));
+
+		assertThat(index.search("공지")).containsExactly(1L, 3L, 2L);
+	}
+
+	private static Board board(Long id, String title, String content, int day) {
+		Board board = new Board(title, content, "작성자", new Category("자유", null));
+		board.setId(id);
+		board.setCreatedAt(LocalDateTime.of(2024, 1, day, 0, 0));
+		return board;
+	}
+}
@@ -0,0 +1,104 @@
+package com.example.cokothon.service;
+
+import com.example.cokothon.dto.BoardSuggestionResponse;
+import com.example.cokothon.entity.Board;
+import com.example.cokothon.entity.Category;
+import com.example.cokothon.repository.BoardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class BoardTitleSuggesterTest {
+
+	private BoardTitleSuggester suggester;
+
+	@BeforeEach
+	void setUp() {
+		suggester = new BoardTitleSuggester(mock(BoardRepository.class), 2);
+	}
+
+	@Test
+	void matchesWordStartsWithJamoPrefix() {
+		suggester.index(board(1L, "닭갈비 맛집", 0));
+		suggester.index(board(2L, "제철 과일", 0));
+
+		assertThat(ids("달")).containsExactly(1L);
+		assertThat(ids("맛")).containsExactly(1L);
+		assertThat(ids("고")).containsExactly(2L);
+		// 단어 중간부터는 일치하지 않는다
+		assertThat(ids("갈비")).isEmpty();
+		assertThat(ids("닭볶")).isEmpty();
+	}
+
+	@Test
+	void keepsMostViewedWithinLimit() {
+		suggester.index(board(1L, "apple", 10));
+		suggester.index(board(2L, "apply", 30));
+		suggester.index(board(3L, "app", 20));
+
+		assertThat(ids("ap")).containsExactly(2L, 3L);
+		assertThat(ids("appl")).containsExactly(2L, 1L);
+		assertThat(suggester.suggest("ap", 1)).extracting(BoardSuggestionResponse::getId).containsExactly(2L);
+	}
+
+	@Test
+	void recomputesTopListAfterRemoval() {
+		suggester.index(board(1L, "apple", 10));
+		suggester.index(board(2L, "apply", 30));
+		suggester.index(board(3L, "app", 20));
+
+		// 상위 목록 밖에 있던 게시글이 다시 올라온다
+		suggester.remove(2L);
+		assertThat(ids("ap")).containsExactly(3L, 1L);
+		assertThat(ids("apply")).isEmpty();
+
+		suggester.remove(1L);
+		suggester.remove(3L);
+		assertThat(ids("a")).isEmpty();
+
+		suggester.index(board(4L, "apricot", 0));
+		assertThat(ids("ap")).containsExactly(4L);
+	}
+
+	@Test
+	void reindexesChangedTitle() {
+		suggester.index(board(1L, "오래된 제목", 5));
+		suggester.index(board(1L, "새 제목", 0));
+
+		assertThat(ids("오래")).isEmpty();
+		List<BoardSuggestionResponse> result = suggester.suggest("새", 10);
+		assertThat(result).extracting(BoardSuggestionResponse::getTitle).containsExactly("새 제목");
+		// 조회수는 이전 값보다 줄어들지 않는다
+		assertThat(result.get(0).getViewCount()).isEqualTo(5L);
+	}
+
+	@Test
+	void appliesFlushedViewsAndIgnoresUnknownIds() {
+		suggester.index(board(1L, "공지 하나", 10));
+		suggester.index(board(2L, "공지 둘", 5));
+		suggester.index(board(3L, "공지 셋", 1));
+		assertThat(ids("공지")).containsExactly(1L, 2L);
+
+		suggester.onViewsFlushed(new BoardViewsFlushedEvent(Map.of(3L, 20L, 99L, 100L)));
+
+		assertThat(ids("공지")).containsExactly(3L, 1L);
+		assertThat(suggester.suggest("셋", 10).get(0).getViewCount()).isEqualTo(21L);
+		assertThat(ids("ㄱ")).containsExactly(3L, 1L);
+	}
+
+	private List<Long> ids(String prefix) {
+		return suggester.suggest(prefix, 10).stream().map(BoardSuggestionResponse::getId).toList();
+	}
+
+	private static Board board(Long id, String title, int views) {
+		Board board = new Board(title, "", "작성자", new Category("자유", null));
+		board.setId(id);
+		board.setViewCount(views);
+		return board;
+	}
+}
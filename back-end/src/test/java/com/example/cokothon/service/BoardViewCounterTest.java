@@ -0,0 +1,97 @@
+package com.example.cokothon.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.BatchUpdateException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BoardViewCounterTest {
+
+	private JdbcTemplate jdbcTemplate;
+	private BoardCache boardCache;
+	private ApplicationEventPublisher eventPublisher;
+	private BoardViewCounter counter;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = mock(JdbcTemplate.class);
+		boardCache = mock(BoardCache.class);
+		eventPublisher = mock(ApplicationEventPublisher.class);
+		counter = new BoardViewCounter(jdbcTemplate, boardCache, eventPublisher);
+	}
+
+	@Test
+	void flushRemovesFlushedEntries() {
+		when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{1, 1});
+		counter.increment(1L);
+		counter.increment(1L);
+		counter.increment(2L);
+
+		counter.flush();
+
+		assertThat(counter.getPending(1L)).isZero();
+		assertThat(counter.getPending(2L)).isZero();
+		verify(boardCache).evictDetail(1L);
+		verify(boardCache).evictDetail(2L);
+
+		// 반영 후 대기 항목이 남아 있지 않으므로 다음 주기에는 UPDATE하지 않는다
+		counter.flush();
+		verify(jdbcTemplate).batchUpdate(anyString(), anyList());
+	}
+
+	@Test
+	void partialFailureRequeuesOnlyFailedRows() {
+		// 게시글 2의 행만 실패 (드라이버가 나머지 행을 계속 실행한 경우)
+		when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+			List<Object[]> rows = invocation.getArgument(1);
+			int[] counts = new int[rows.size()];
+			for (int i = 0; i < rows.size(); i++) {
+				counts[i] = rows.get(i)[1].equals(2L) ? Statement.EXECUTE_FAILED : 1;
+			}
+			throw new DataIntegrityViolationException("failed", new BatchUpdateException(counts));
+		});
+		counter.increment(1L);
+		counter.increment(2L);
+		counter.increment(2L);
+		counter.increment(3L);
+
+		counter.flush();
+
+		// 반영된 게시글은 다시 더하지 않는다
+		assertThat(counter.getPending(1L)).isZero();
+		assertThat(counter.getPending(3L)).isZero();
+		assertThat(counter.getPending(2L)).isEqualTo(2);
+		verify(boardCache).evictDetail(1L);
+		verify(boardCache).evictDetail(3L);
+		verify(boardCache, never()).evictDetail(2L);
+	}
+
+	@Test
+	void unknownFailureRequeuesEverything() {
+		when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+				.thenThrow(new DataAccessResourceFailureException("down"));
+		counter.increment(1L);
+		counter.increment(2L);
+
+		counter.flush();
+
+		assertThat(counter.getPending(1L)).isEqualTo(1);
+		assertThat(counter.getPending(2L)).isEqualTo(1);
+		verify(eventPublisher, never()).publishEvent(any());
+	}
+}
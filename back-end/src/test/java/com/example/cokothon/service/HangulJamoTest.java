@@ -0,0 +1,30 @@
+package com.example.cokothon.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HangulJamoTest {
+
+	@Test
+	void decomposesSyllablesIntoJamo() {
+		assertThat(HangulJamo.normalize("닭")).isEqualTo("ㄷㅏㄹㄱ");
+		assertThat(HangulJamo.normalize("과")).isEqualTo("ㄱㅗㅏ");
+		assertThat(HangulJamo.normalize("값")).isEqualTo("ㄱㅏㅂㅅ");
+	}
+
+	@Test
+	void typingSyllableIsPrefixOfCompletedSyllable() {
+		// 입력 중인 "달"은 "닭"의, "고"는 "과"의 접두어
+		assertThat(HangulJamo.normalize("닭갈비")).startsWith(HangulJamo.normalize("달"));
+		assertThat(HangulJamo.normalize("과일")).startsWith(HangulJamo.normalize("고"));
+		// 호환 자모로 친 초성도 그대로 비교된다
+		assertThat(HangulJamo.normalize("가족")).startsWith(HangulJamo.normalize("ㄱ"));
+	}
+
+	@Test
+	void lowercasesAndCollapsesWhitespace() {
+		assertThat(HangulJamo.normalize("  Spring   Boot ")).isEqualTo("spring boot");
+		assertThat(HangulJamo.normalize(null)).isEmpty();
+	}
+}
@@ -0,0 +1,215 @@
+package com.example.cokothon.service;
+
+import com.example.cokothon.dto.FamilySurveyRequest;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SurveyAutosaveBufferTest {
+
+	private static final Long USER_ID = 1L;
+
+	private FamilySurveyService familySurveyService;
+	private SurveyAutosaveBuffer buffer;
+
+	// 예약된 저장 작업 (테스트에서 직접 실행)
+	private final List<Runnable> scheduled = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		familySurveyService = mock(FamilySurveyService.class);
+		TaskScheduler taskScheduler = mock(TaskScheduler.class);
+		doAnswer(invocation -> {
+			scheduled.add(invocation.getArgument(0));
+			return mock(ScheduledFuture.class);
+		}).when(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+		when(familySurveyService.validatePatch(any(), any())).thenAnswer(invocation -> new FamilySurveyRequest());
+		buffer = new SurveyAutosaveBuffer(familySurveyService, taskScheduler, Duration.ofSeconds(2));
+	}
+
+	@Test
+	void coalescesPatchesIntoOneSave() {
+		buffer.submit(USER_ID, patch("griefStage", "DENIAL"));
+		buffer.submit(USER_ID, patch("phoneNumber", "010"));
+		buffer.submit(USER_ID, patch("griefStage", "ACCEPTANCE"));
+
+		assertThat(scheduled).hasSize(1);
+		// 설문조사는 처음 한 번만 읽고, 이후 변경은 검사를 마친 요청에 이어서 검사한다
+		verify(familySurveyService, times(1)).currentRequest(USER_ID);
+		verify(familySurveyService, times(3)).validatePatch(any(), any());
+
+		scheduled.get(0).run();
+
+		verify(familySurveyService).applyPatch(USER_ID, patch("griefStage", "ACCEPTANCE", "phoneNumber", "010"));
+		assertThat(buffer.countPending()).isZero();
+	}
+
+	@Test
+	void rejectedPatchLeavesPendingChangesUntouched() {
+		buffer.submit(USER_ID, patch("phoneNumber", "010"));
+		doThrow(new IllegalArgumentException("bad"))
+				.when(familySurveyService).validatePatch(any(), argThat(patch -> patch.has("griefStage")));
+
+		assertThatThrownBy(() -> buffer.submit(USER_ID, patch("griefStage", "NOPE")))
+				.isInstanceOf(IllegalArgumentException.class);
+
+		buffer.flush(USER_ID);
+		verify(familySurveyService).applyPatch(USER_ID, patch("phoneNumber", "010"));
+	}
+
+	@Test
+	void requeuesFailedSaveAndRetries() {
+		when(familySurveyService.applyPatch(any(), any()))
+				.thenThrow(new OptimisticLockingFailureException("conflict"))
+				.thenReturn(null);
+		buffer.submit(USER_ID, patch("phoneNumber", "010"));
+
+		scheduled.get(0).run();
+		assertThat(buffer.countPending()).isEqualTo(1);
+		assertThat(scheduled).hasSize(2);
+
+		scheduled.get(1).run();
+		verify(familySurveyService, times(2)).applyPatch(USER_ID, patch("phoneNumber", "010"));
+		assertThat(buffer.countPending()).isZero();
+	}
+
+	@Test
+	void dropsChangesAfterMaxAttempts() {
+		when(familySurveyService.applyPatch(any(), any())).thenThrow(new IllegalStateException("down"));
+		buffer.submit(USER_ID, patch("phoneNumber", "010"));
+
+		for (int i = 0; i < 3; i++) {
+			scheduled.get(i).run();
+		}
+
+		assertThat(scheduled).hasSize(3);
+		assertThat(buffer.countPending()).isZero();
+	}
+
+	@Test
+	void explicitFlushKeepsChangesAndRethrows() {
+		when(familySurveyService.applyPatch(any(), any()))
+				.thenThrow(new IllegalStateException("down"))
+				.thenReturn(null);
+		buffer.submit(USER_ID, patch("phoneNumber", "010"));
+
+		assertThatThrownBy(() -> buffer.flush(USER_ID)).isInstanceOf(IllegalStateException.class);
+		assertThat(buffer.countPending()).isEqualTo(1);
+
+		buffer.flush(USER_ID);
+		assertThat(buffer.countPending()).isZero();
+		// 처음 예약된 작업은 이미 처리된 변경이므로 아무것도 하지 않는다
+		scheduled.get(0).run();
+		verify(familySurveyService, times(2)).applyPatch(any(), any());
+	}
+
+	@Test
+	void savesApplicableFieldsWhenPatchNoLongerFits() {
+		ObjectNode all = patch("griefStage", "DENIAL", "relationshipToDeceased", null);
+		ObjectNode applicable = patch("griefStage", "DENIAL");
+		when(familySurveyService.applyPatch(USER_ID, all)).thenThrow(new IllegalArgumentException("missing"));
+		when(familySurveyService.retainApplicable(USER_ID, all)).thenReturn(applicable);
+		buffer.submit(USER_ID, all);
+
+		scheduled.get(0).run();
+
+		verify(familySurveyService).applyPatch(USER_ID, applicable);
+		assertThat(buffer.countPending()).isZero();
+	}
+
+	@Test
+	void dropsEverythingWhenNothingApplies() {
+		ObjectNode all = patch("relationshipToDeceased", null);
+		when(familySurveyService.applyPatch(USER_ID, all)).thenThrow(new IllegalArgumentException("missing"));
+		when(familySurveyService.retainApplicable(USER_ID, all)).thenReturn(JsonNodeFactory.instance.objectNode());
+		buffer.submit(USER_ID, all);
+
+		buffer.flush(USER_ID);
+
+		verify(familySurveyService, times(1)).applyPatch(any(), any());
+		assertThat(buffer.countPending()).isZero();
+	}
+
+	@Test
+	void flushThenSavesPendingBeforeAction() {
+		buffer.submit(USER_ID, patch("phoneNumber", "010"));
+
+		String result = buffer.flushThen(USER_ID, () -> {
+			familySurveyService.findSurveyByUserId(USER_ID);
+			return "submitted";
+		});
+
+		assertThat(result).isEqualTo("submitted");
+		var order = inOrder(familySurveyService);
+		order.verify(familySurveyService).applyPatch(USER_ID, patch("phoneNumber", "010"));
+		order.verify(familySurveyService).findSurveyByUserId(USER_ID);
+	}
+
+	@Test
+	void flushThenSkipsActionWhenSaveFails() {
+		when(familySurveyService.applyPatch(any(), any())).thenThrow(new IllegalStateException("down"));
+		buffer.submit(USER_ID, patch("phoneNumber", "010"));
+
+		assertThatThrownBy(() -> buffer.flushThen(USER_ID, () -> familySurveyService.findSurveyByUserId(USER_ID)))
+				.isInstanceOf(IllegalStateException.class);
+
+		verify(familySurveyService, never()).findSurveyByUserId(any());
+		assertThat(buffer.countPending()).isEqualTo(1);
+	}
+
+	@Test
+	void submitDoesNotWaitForOtherUsers() {
+		// 64개로 나눈 잠금이었다면 같은 잠금을 쓰던 사용자
+		Long otherUserId = USER_ID + 64;
+
+		String result = buffer.flushThen(USER_ID, () -> {
+			CompletableFuture<Void> other = CompletableFuture.runAsync(() -> buffer.submit(otherUserId, patch("phoneNumber", "010")));
+			other.orTimeout(5, TimeUnit.SECONDS).join();
+			return "submitted";
+		});
+
+		assertThat(result).isEqualTo("submitted");
+		assertThat(buffer.countPending()).isEqualTo(1);
+	}
+
+	@Test
+	void releasesUnusedLocks() {
+		buffer.submit(USER_ID, patch("phoneNumber", "010"));
+		buffer.flush(USER_ID);
+		buffer.flushThen(USER_ID + 1, () -> "submitted");
+
+		assertThat(buffer.countLocks()).isZero();
+	}
+
+	private static ObjectNode patch(String... fieldsAndValues) {
+		ObjectNode patch = JsonNodeFactory.instance.objectNode();
+		for (int i = 0; i < fieldsAndValues.length; i += 2) {
+			patch.put(fieldsAndValues[i], fieldsAndValues[i + 1]);
+		}
+		return patch;
+	}
+}
@@ -0,0 +1,140 @@
+package com.example.cokothon.service;
+
+import com.example.cokothon.dto.SurveyFilterRequest;
+import com.example.cokothon.entity.CounselingWillingness;
+import com.example.cokothon.entity.GriefStage;
+import com.example.cokothon.entity.RelationshipToDeceased;
+import com.example.cokothon.repository.FamilySurveyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SurveyBitmapIndexTest {
+
+	private SurveyBitmapIndex index;
+
+	@BeforeEach
+	void setUp() {
+		FamilySurveyRepository repository = mock(FamilySurveyRepository.class);
+		when(repository.getIndexRows()).thenReturn(List.of(
+				row(1L, facts(true, RelationshipToDeceased.SPOUSE, GriefStage.DENIAL, true)),
+				row(2L, facts(true, RelationshipToDeceased.CHILD, GriefStage.ANGER, false)),
+				row(3L, facts(false, RelationshipToDeceased.SPOUSE, null, true))));
+		index = new SurveyBitmapIndex(repository);
+		index.rebuild();
+	}
+
+	@Test
+	void evaluatesSingleConditions() {
+		assertThat(ids(condition("relationshipToDeceased", "SPOUSE"))).containsExactly(1, 3);
+		assertThat(ids(condition("griefStage", "ANGER"))).containsExactly(2);
+		// true/false 항목은 대소문자와 공백을 가리지 않는다
+		assertThat(ids(condition("livingAlone", " TRUE "))).containsExactly(1, 3);
+		// 유효하지만 해당하는 설문조사가 없는 값
+		assertThat(ids(condition("griefStage", "ACCEPTANCE"))).isEmpty();
+	}
+
+	@Test
+	void combinesConditions() {
+		SurveyFilterRequest spouseAndCompleted = group("AND",
+				condition("relationshipToDeceased", "SPOUSE"), condition("surveyCompleted", "true"));
+		assertThat(ids(spouseAndCompleted)).containsExactly(1);
+
+		assertThat(ids(group("OR", condition("griefStage", "DENIAL"), condition("griefStage", "ANGER"))))
+				.containsExactly(1, 2);
+		assertThat(ids(group("not", condition("livingAlone", "true")))).containsExactly(2);
+		// 빈 AND는 전체, 빈 OR는 없음
+		assertThat(ids(group("AND"))).containsExactly(1, 2, 3);
+		assertThat(ids(group("OR"))).isEmpty();
+	}
+
+	@Test
+	void rejectsUnknownFieldsValuesAndOperators() {
+		assertThatThrownBy(() -> index.evaluate(condition("griefStage", "SAD")))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> index.evaluate(condition("livingAlone", "yes")))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> index.evaluate(condition("griefStage", null)))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> index.evaluate(condition("name", "x")))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> index.evaluate(group("XOR", condition("livingAlone", "true"))))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> index.evaluate(group("NOT")))
+				.isInstanceOf(IllegalArgumentException.class);
+		// 묶음 안의 잘못된 값도 거절
+		assertThatThrownBy(() -> index.evaluate(group("OR", condition("griefStage", "DENIAL"), condition("griefStage", "denial"))))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void capsNestingDepth() {
+		SurveyFilterRequest filter = condition("livingAlone", "true");
+		for (int depth = 1; depth < 8; depth++) {
+			filter = group("AND", filter);
+		}
+		assertThat(ids(filter)).containsExactly(1, 3);
+
+		SurveyFilterRequest tooDeep = group("AND", filter);
+		assertThatThrownBy(() -> index.evaluate(tooDeep))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void appliesSurveyChanges() {
+		// 3번 완료 + 관계 변경, 1번 삭제
+		index.onSurveyChanged(new FamilySurveyChangedEvent(3L, null,
+				facts(true, RelationshipToDeceased.PARENT, GriefStage.ANGER, true), null, null));
+		index.onSurveyChanged(new FamilySurveyChangedEvent(1L, null, null, null, null));
+
+		assertThat(ids(condition("relationshipToDeceased", "SPOUSE"))).isEmpty();
+		assertThat(ids(condition("griefStage", "ANGER"))).containsExactly(2, 3);
+		assertThat(ids(group("NOT", condition("livingAlone", "true")))).containsExactly(2);
+	}
+
+	@Test
+	void returnsIndependentCopies() {
+		BitSet first = index.evaluate(condition("relationshipToDeceased", "SPOUSE"));
+		first.clear();
+
+		assertThat(ids(condition("relationshipToDeceased", "SPOUSE"))).containsExactly(1, 3);
+	}
+
+	private List<Integer> ids(SurveyFilterRequest filter) {
+		return index.evaluate(filter).stream().boxed().toList();
+	}
+
+	private static SurveyFilterRequest condition(String field, String value) {
+		SurveyFilterRequest filter = new SurveyFilterRequest();
+		filter.setField(field);
+		filter.setValue(value);
+		return filter;
+	}
+
+	private static SurveyFilterRequest group(String op, SurveyFilterRequest... conditions) {
+		SurveyFilterRequest filter = new SurveyFilterRequest();
+		filter.setOp(op);
+		filter.setConditions(List.of(conditions));
+		return filter;
+	}
+
+	private static SurveyFacts facts(boolean completed, RelationshipToDeceased relationship, GriefStage griefStage,
+									 boolean livingAlone) {
+		return new SurveyFacts(completed, relationship, griefStage, null, null, null,
+				false, livingAlone, CounselingWillingness.NEUTRAL);
+	}
+
+	// getIndexRows 행 형식 (ID + 항목 9개)
+	private static Object[] row(Long id, SurveyFacts facts) {
+		return new Object[]{id, facts.completed(), facts.relationshipToDeceased(), facts.griefStage(),
+				facts.familySupportLevel(), facts.preferredMeetingType(), facts.preferredMeetingTime(),
+				facts.meetingParticipationDesire(), facts.livingAlone(), facts.counselingWillingness()};
+	}
+}
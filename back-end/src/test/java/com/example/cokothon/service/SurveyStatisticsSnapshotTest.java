@@ -0,0 +1,167 @@
+package com.example.cokothon.service;
+
+import com.example.cokothon.dto.SurveyStatisticsResponse;
+import com.example.cokothon.entity.CounselingWillingness;
+import com.example.cokothon.entity.FamilySupportLevel;
+import com.example.cokothon.entity.GriefStage;
+import com.example.cokothon.entity.MeetingTime;
+import com.example.cokothon.entity.MeetingType;
+import com.example.cokothon.entity.RelationshipToDeceased;
+import com.example.cokothon.repository.FamilySurveyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SurveyStatisticsSnapshotTest {
+
+	private static final SurveyFacts SPOUSE_DENIAL = new SurveyFacts(true, RelationshipToDeceased.SPOUSE,
+			GriefStage.DENIAL, FamilySupportLevel.HIGH, MeetingType.ONLINE, MeetingTime.WEEKEND,
+			true, false, CounselingWillingness.VERY_INTERESTED);
+
+	private static final SurveyFacts CHILD_ANGER = new SurveyFacts(true, RelationshipToDeceased.CHILD,
+			GriefStage.ANGER, FamilySupportLevel.LOW, MeetingType.OFFLINE, null,
+			false, true, CounselingWillingness.NOT_INTERESTED);
+
+	private static final SurveyFacts DRAFT = new SurveyFacts(false, RelationshipToDeceased.PARENT,
+			GriefStage.ANGER, null, null, null, true, true, null);
+
+	private FamilySurveyRepository repository;
+	private SurveyStatisticsSnapshot snapshot;
+
+	@BeforeEach
+	void setUp() {
+		repository = mock(FamilySurveyRepository.class);
+		snapshot = new SurveyStatisticsSnapshot(repository);
+	}
+
+	@Test
+	void rebuildsFromGroupedCounts() {
+		when(repository.getStatisticsGroups()).thenReturn(rows(SPOUSE_DENIAL, 2L, CHILD_ANGER, 1L, DRAFT, 3L));
+		snapshot.rebuild();
+
+		SurveyStatisticsResponse stats = snapshot.getStatistics();
+		assertThat(stats.getTotalSurveys()).isEqualTo(6);
+		assertThat(stats.getCompletedSurveys()).isEqualTo(3);
+		assertThat(stats.getIncompleteSurveys()).isEqualTo(3);
+		// 범주별 통계는 완료된 설문조사만
+		assertThat(stats.getRelationshipStatistics()).isEqualTo(Map.of("SPOUSE", 2L, "CHILD", 1L));
+		assertThat(stats.getGriefStageStatistics()).isEqualTo(Map.of("DENIAL", 2L, "ANGER", 1L));
+		assertThat(stats.getMeetingParticipationDesired()).isEqualTo(2);
+		assertThat(stats.getMeetingParticipationNotDesired()).isEqualTo(1);
+		assertThat(stats.getCounselingInterested()).isEqualTo(2);
+		assertThat(stats.getLivingAloneCount()).isEqualTo(1);
+		assertThat(stats.getLivingWithFamilyCount()).isEqualTo(2);
+	}
+
+	@Test
+	void appliesChangeDeltas() {
+		when(repository.getStatisticsGroups()).thenReturn(rows(SPOUSE_DENIAL, 1L, DRAFT, 1L));
+		snapshot.rebuild();
+
+		// 작성 중이던 설문조사 완료
+		snapshot.onSurveyChanged(event(DRAFT, CHILD_ANGER));
+		SurveyStatisticsResponse completed = snapshot.getStatistics();
+		assertThat(completed.getTotalSurveys()).isEqualTo(2);
+		assertThat(completed.getCompletedSurveys()).isEqualTo(2);
+		assertThat(completed.getRelationshipStatistics()).isEqualTo(Map.of("SPOUSE", 1L, "CHILD", 1L));
+
+		// 삭제 - 개수가 0이 된 항목은 통계에서 빠진다
+		snapshot.onSurveyChanged(event(SPOUSE_DENIAL, null));
+		SurveyStatisticsResponse deleted = snapshot.getStatistics();
+		assertThat(deleted.getTotalSurveys()).isEqualTo(1);
+		assertThat(deleted.getRelationshipStatistics()).isEqualTo(Map.of("CHILD", 1L));
+		assertThat(deleted.getGriefStageStatistics()).isEqualTo(Map.of("ANGER", 1L));
+		assertThat(deleted.getCounselingInterested()).isZero();
+
+		// 새로 생성
+		snapshot.onSurveyChanged(event(null, DRAFT));
+		assertThat(snapshot.getStatistics().getTotalSurveys()).isEqualTo(2);
+		assertThat(snapshot.getStatistics().getIncompleteSurveys()).isEqualTo(1);
+	}
+
+	@Test
+	void verifyReplacesDriftedSnapshot() {
+		when(repository.getStatisticsGroups()).thenReturn(rows(SPOUSE_DENIAL, 1L));
+		snapshot.rebuild();
+
+		// DB에는 없는 변경이 반영된 상태
+		snapshot.onSurveyChanged(event(null, CHILD_ANGER));
+		assertThat(snapshot.getStatistics().getTotalSurveys()).isEqualTo(2);
+
+		snapshot.verify();
+		assertThat(snapshot.getStatistics().getTotalSurveys()).isEqualTo(1);
+		assertThat(snapshot.getStatistics().getRelationshipStatistics()).isEqualTo(Map.of("SPOUSE", 1L));
+	}
+
+	@Test
+	void verifySkipsWhenChangedDuringRecount() {
+		when(repository.getStatisticsGroups()).thenReturn(rows(SPOUSE_DENIAL, 1L));
+		snapshot.rebuild();
+
+		// 재집계 쿼리 도중 커밋된 변경은 재집계 결과에 없을 수 있으므로 교체하지 않는다
+		when(repository.getStatisticsGroups()).thenAnswer(invocation -> {
+			snapshot.onSurveyChanged(event(null, CHILD_ANGER));
+			return rows(SPOUSE_DENIAL, 1L);
+		});
+		snapshot.verify();
+
+		assertThat(snapshot.getStatistics().getTotalSurveys()).isEqualTo(2);
+	}
+
+	@Test
+	void verifySkipsWhileCommittedChangeAwaitsApply() {
+		when(repository.getStatisticsGroups()).thenReturn(rows(SPOUSE_DENIAL, 1L));
+		snapshot.rebuild();
+
+		// 커밋은 끝나 재집계에는 들어 있지만 커밋 후 반영은 아직인 변경
+		FamilySurveyChangedEvent created = event(null, CHILD_ANGER);
+		snapshot.onSurveyCommitting(created);
+		when(repository.getStatisticsGroups()).thenReturn(rows(SPOUSE_DENIAL, 1L, CHILD_ANGER, 1L));
+		snapshot.verify();
+		snapshot.onSurveyChanged(created);
+
+		// 재집계로 교체했다면 늦게 온 변경이 한 번 더 더해졌을 것
+		assertThat(snapshot.getStatistics().getTotalSurveys()).isEqualTo(2);
+		snapshot.verify();
+		assertThat(snapshot.getStatistics().getTotalSurveys()).isEqualTo(2);
+	}
+
+	@Test
+	void rolledBackChangeDoesNotBlockVerify() {
+		when(repository.getStatisticsGroups()).thenReturn(rows(SPOUSE_DENIAL, 1L));
+		snapshot.rebuild();
+
+		FamilySurveyChangedEvent failed = event(null, CHILD_ANGER);
+		snapshot.onSurveyCommitting(failed);
+		snapshot.onSurveyRolledBack(failed);
+		// DB에는 없는 변경이 반영된 상태
+		snapshot.onSurveyChanged(event(null, DRAFT));
+
+		snapshot.verify();
+		assertThat(snapshot.getStatistics().getTotalSurveys()).isEqualTo(1);
+	}
+
+	private static FamilySurveyChangedEvent event(SurveyFacts before, SurveyFacts after) {
+		return new FamilySurveyChangedEvent(1L, before, after, null, null);
+	}
+
+	// getStatisticsGroups 행 형식 (항목 9개 + 개수)
+	private static List<Object[]> rows(Object... factsAndCounts) {
+		List<Object[]> rows = new ArrayList<>();
+		for (int i = 0; i < factsAndCounts.length; i += 2) {
+			SurveyFacts facts = (SurveyFacts) factsAndCounts[i];
+			rows.add(new Object[]{facts.completed(), facts.relationshipToDeceased(), facts.griefStage(),
+					facts.familySupportLevel(), facts.preferredMeetingType(), facts.preferredMeetingTime(),
+					facts.meetingParticipationDesire(), facts.livingAlone(), facts.counselingWillingness(),
+					factsAndCounts[i + 1]});
+		}
+		return rows;
+	}
+}
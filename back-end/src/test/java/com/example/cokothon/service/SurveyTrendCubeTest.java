@@ -0,0 +1,139 @@
+package com.example.cokothon.service;
+
+import com.example.cokothon.dto.SurveyTrendResponse;
+import com.example.cokothon.entity.CounselingWillingness;
+import com.example.cokothon.entity.GriefStage;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SurveyTrendCubeTest {
+
+	private static final LocalDateTime CREATED = LocalDateTime.of(2026, 1, 5, 10, 0);
+	private static final LocalDate DEATH = LocalDate.of(2025, 12, 1);
+
+	@Test
+	void historyAxesKeepEarlierStates() {
+		SurveyTrendCube cube = new SurveyTrendCube();
+		SurveyTrendFacts january = facts(GriefStage.DENIAL, LocalDateTime.of(2026, 1, 10, 9, 0));
+		SurveyTrendFacts march = facts(GriefStage.ACCEPTANCE, LocalDateTime.of(2026, 3, 2, 9, 0));
+
+		cube.apply(null, january);
+		cube.apply(january, march);
+
+		// 수정 월 / 사망 후 경과 개월 기준은 1월 상태가 지워지지 않는다
+		assertThat(griefCounts(cube, SurveyTrendAxis.UPDATED_MONTH)).isEqualTo(Map.of(
+				"2026-01", Map.of("DENIAL", 1L),
+				"2026-03", Map.of("ACCEPTANCE", 1L)));
+		assertThat(griefCounts(cube, SurveyTrendAxis.MONTHS_SINCE_DEATH)).isEqualTo(Map.of(
+				"1", Map.of("DENIAL", 1L),
+				"3", Map.of("ACCEPTANCE", 1L)));
+		// 생성 월 기준은 현재 상태만
+		assertThat(griefCounts(cube, SurveyTrendAxis.CREATED_MONTH)).isEqualTo(Map.of(
+				"2026-01", Map.of("ACCEPTANCE", 1L)));
+	}
+
+	@Test
+	void historyAxesKeepLastStateWithinBucket() {
+		SurveyTrendCube cube = new SurveyTrendCube();
+		SurveyTrendFacts first = facts(GriefStage.DENIAL, LocalDateTime.of(2026, 3, 2, 9, 0));
+		SurveyTrendFacts second = facts(GriefStage.ANGER, LocalDateTime.of(2026, 3, 3, 9, 0));
+		SurveyTrendFacts nextWeek = facts(GriefStage.ANGER, LocalDateTime.of(2026, 3, 10, 9, 0));
+
+		cube.apply(null, first);
+		cube.apply(first, second);
+		cube.apply(second, nextWeek);
+
+		// 같은 구간 안의 변경은 마지막 상태 하나로 센다
+		assertThat(griefCounts(cube, SurveyTrendAxis.UPDATED_MONTH)).isEqualTo(Map.of(
+				"2026-03", Map.of("ANGER", 1L)));
+		assertThat(griefCounts(cube, SurveyTrendAxis.UPDATED_WEEK)).isEqualTo(Map.of(
+				"2026-03-02", Map.of("ANGER", 1L),
+				"2026-03-09", Map.of("ANGER", 1L)));
+	}
+
+	@Test
+	void deleteKeepsHistoryAxes() {
+		SurveyTrendCube cube = new SurveyTrendCube();
+		SurveyTrendFacts completed = facts(GriefStage.DEPRESSION, LocalDateTime.of(2026, 2, 2, 9, 0));
+
+		cube.apply(null, completed);
+		cube.apply(completed, null);
+
+		assertThat(griefCounts(cube, SurveyTrendAxis.CREATED_MONTH)).isEmpty();
+		assertThat(griefCounts(cube, SurveyTrendAxis.UPDATED_MONTH)).isEqualTo(Map.of(
+				"2026-02", Map.of("DEPRESSION", 1L)));
+	}
+
+	@Test
+	void incompleteStatesAreNotCounted() {
+		SurveyTrendCube cube = new SurveyTrendCube();
+		SurveyTrendFacts draft = new SurveyTrendFacts(false, CREATED, LocalDateTime.of(2026, 1, 6, 9, 0),
+				DEATH, GriefStage.DENIAL, null, false);
+		SurveyTrendFacts completed = facts(GriefStage.ANGER, LocalDateTime.of(2026, 1, 7, 9, 0));
+
+		cube.apply(null, draft);
+		assertThat(cube).isEqualTo(new SurveyTrendCube());
+
+		cube.apply(draft, completed);
+		assertThat(griefCounts(cube, SurveyTrendAxis.UPDATED_WEEK)).isEqualTo(Map.of(
+				"2026-01-05", Map.of("ANGER", 1L)));
+	}
+
+	@Test
+	void recountMatchesAppliedChanges() {
+		SurveyTrendFacts draft = new SurveyTrendFacts(false, CREATED, LocalDateTime.of(2026, 1, 5, 10, 0),
+				DEATH, null, null, false);
+		SurveyTrendFacts january = facts(GriefStage.DENIAL, LocalDateTime.of(2026, 1, 20, 9, 0));
+		SurveyTrendFacts february = facts(GriefStage.ANGER, LocalDateTime.of(2026, 2, 3, 9, 0));
+		SurveyTrendFacts februaryLater = facts(GriefStage.BARGAINING, LocalDateTime.of(2026, 2, 25, 9, 0));
+		SurveyTrendFacts deleted = facts(GriefStage.DEPRESSION, LocalDateTime.of(2026, 1, 8, 9, 0));
+
+		SurveyTrendCube applied = new SurveyTrendCube();
+		applied.apply(null, draft);
+		applied.apply(draft, january);
+		applied.apply(january, february);
+		applied.apply(february, februaryLater);
+		applied.apply(null, deleted);
+		applied.apply(deleted, null);
+
+		// 재집계: 현재 남은 설문조사 + 설문조사별 변경 이력
+		SurveyTrendCube recounted = new SurveyTrendCube();
+		recounted.addCurrent(februaryLater);
+		recounted.addHistory(List.of(draft, january, february, februaryLater));
+		recounted.addHistory(List.of(deleted));
+
+		assertThat(recounted).isEqualTo(applied);
+	}
+
+	@Test
+	void sameHistoryCellSkipsUnchangedStates() {
+		SurveyTrendFacts march = facts(GriefStage.ANGER, LocalDateTime.of(2026, 3, 2, 9, 0));
+
+		assertThat(march.sameHistoryCell(facts(GriefStage.ANGER, LocalDateTime.of(2026, 3, 2, 18, 0)))).isTrue();
+		// 다른 주 / 다른 값 / 새 설문조사는 이력을 남긴다
+		assertThat(march.sameHistoryCell(facts(GriefStage.ANGER, LocalDateTime.of(2026, 3, 9, 9, 0)))).isFalse();
+		assertThat(march.sameHistoryCell(facts(GriefStage.DENIAL, LocalDateTime.of(2026, 3, 2, 18, 0)))).isFalse();
+		assertThat(march.sameHistoryCell(null)).isFalse();
+	}
+
+	private static SurveyTrendFacts facts(GriefStage griefStage, LocalDateTime updatedAt) {
+		return new SurveyTrendFacts(true, CREATED, updatedAt, DEATH, griefStage,
+				CounselingWillingness.INTERESTED, true);
+	}
+
+	// 구간 이름 -> 애도 단계별 개수
+	private static Map<String, Map<String, Long>> griefCounts(SurveyTrendCube cube, SurveyTrendAxis axis) {
+		Map<String, Map<String, Long>> result = new LinkedHashMap<>();
+		for (SurveyTrendResponse.Bucket bucket : cube.toResponse(axis, SurveyTrendDimension.GRIEF_STAGE).getBuckets()) {
+			result.put(bucket.getBucket(), bucket.getCounts());
+		}
+		return result;
+	}
+}
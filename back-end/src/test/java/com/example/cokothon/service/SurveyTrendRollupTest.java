@@ -0,0 +1,125 @@
+package com.example.cokothon.service;
+
+import com.example.cokothon.dto.SurveyTrendResponse;
+import com.example.cokothon.entity.CounselingWillingness;
+import com.example.cokothon.entity.GriefStage;
+import com.example.cokothon.repository.FamilySurveyHistoryRepository;
+import com.example.cokothon.repository.FamilySurveyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SurveyTrendRollupTest {
+
+	private static final LocalDateTime CREATED = LocalDateTime.of(2026, 1, 5, 10, 0);
+	private static final LocalDate DEATH = LocalDate.of(2025, 12, 1);
+
+	private static final SurveyTrendFacts JANUARY = facts(GriefStage.DENIAL, LocalDateTime.of(2026, 1, 10, 9, 0));
+	private static final SurveyTrendFacts MARCH = facts(GriefStage.ACCEPTANCE, LocalDateTime.of(2026, 3, 2, 9, 0));
+	private static final SurveyTrendFacts OTHER = facts(GriefStage.ANGER, LocalDateTime.of(2026, 3, 4, 9, 0));
+
+	private FamilySurveyRepository surveyRepository;
+	private FamilySurveyHistoryRepository historyRepository;
+	private SurveyTrendRollup rollup;
+
+	@BeforeEach
+	void setUp() {
+		surveyRepository = mock(FamilySurveyRepository.class);
+		historyRepository = mock(FamilySurveyHistoryRepository.class);
+		rollup = new SurveyTrendRollup(surveyRepository, historyRepository);
+	}
+
+	@Test
+	void rebuildsHistoryAxesPerSurvey() {
+		// 설문조사 1: 1월 DENIAL -> 3월 ACCEPTANCE, 설문조사 2: 3월 ANGER
+		when(surveyRepository.getTrendRows()).thenReturn(currentRows(MARCH, OTHER));
+		when(historyRepository.getTrendRows()).thenReturn(historyRows(1L, JANUARY, 1L, MARCH, 2L, OTHER));
+		rollup.rebuild();
+
+		SurveyTrendCube expected = new SurveyTrendCube();
+		expected.apply(null, JANUARY);
+		expected.apply(JANUARY, MARCH);
+		expected.apply(null, OTHER);
+		assertThat(rollup.getTrends(SurveyTrendAxis.UPDATED_MONTH, SurveyTrendDimension.GRIEF_STAGE))
+				.usingRecursiveComparison()
+				.isEqualTo(expected.toResponse(SurveyTrendAxis.UPDATED_MONTH, SurveyTrendDimension.GRIEF_STAGE));
+		assertThat(rollup.getTrends(SurveyTrendAxis.UPDATED_MONTH, SurveyTrendDimension.GRIEF_STAGE).getBuckets())
+				.hasSize(2);
+	}
+
+	@Test
+	void verifyKeepsAppliedHistory() {
+		when(surveyRepository.getTrendRows()).thenReturn(currentRows());
+		when(historyRepository.getTrendRows()).thenReturn(historyRows());
+		rollup.rebuild();
+
+		rollup.onSurveyChanged(event(null, JANUARY));
+		rollup.onSurveyChanged(event(JANUARY, MARCH));
+
+		// DB에도 같은 변경이 있으면 재집계와 같아 교체하지 않는다
+		when(surveyRepository.getTrendRows()).thenReturn(currentRows(MARCH));
+		when(historyRepository.getTrendRows()).thenReturn(historyRows(1L, JANUARY, 1L, MARCH));
+		rollup.verify();
+		// 1월 상태가 재집계 후에도 남는다
+		assertThat(rollup.getTrends(SurveyTrendAxis.UPDATED_MONTH, SurveyTrendDimension.GRIEF_STAGE).getBuckets())
+				.extracting(SurveyTrendResponse.Bucket::getBucket)
+				.containsExactly("2026-01", "2026-03");
+	}
+
+	@Test
+	void verifySkipsWhileCommittedChangeAwaitsApply() {
+		when(surveyRepository.getTrendRows()).thenReturn(currentRows());
+		when(historyRepository.getTrendRows()).thenReturn(historyRows());
+		rollup.rebuild();
+
+		// 커밋은 끝나 재집계에는 들어 있지만 커밋 후 반영은 아직인 변경
+		FamilySurveyChangedEvent created = event(null, JANUARY);
+		rollup.onSurveyCommitting(created);
+		when(surveyRepository.getTrendRows()).thenReturn(currentRows(JANUARY));
+		when(historyRepository.getTrendRows()).thenReturn(historyRows(1L, JANUARY));
+		rollup.verify();
+		rollup.onSurveyChanged(created);
+
+		// 재집계로 교체했다면 늦게 온 변경이 한 번 더 더해졌을 것
+		assertThat(rollup.getTrends(SurveyTrendAxis.CREATED_MONTH, SurveyTrendDimension.GRIEF_STAGE)
+				.getBuckets().get(0).getTotal()).isEqualTo(1);
+	}
+
+	private static SurveyTrendFacts facts(GriefStage griefStage, LocalDateTime updatedAt) {
+		return new SurveyTrendFacts(true, CREATED, updatedAt, DEATH, griefStage,
+				CounselingWillingness.INTERESTED, true);
+	}
+
+	private static FamilySurveyChangedEvent event(SurveyTrendFacts before, SurveyTrendFacts after) {
+		return new FamilySurveyChangedEvent(1L, null, null, before, after);
+	}
+
+	// getTrendRows 행 형식 (완료 여부, 생성 시각, 수정 시각, 사망일, 애도 단계, 상담 의향, 모임 참석 희망)
+	private static List<Object[]> currentRows(SurveyTrendFacts... facts) {
+		List<Object[]> rows = new ArrayList<>();
+		for (SurveyTrendFacts f : facts) {
+			rows.add(new Object[]{f.completed(), f.createdAt(), f.updatedAt(), f.deathDate(), f.griefStage(),
+					f.counselingWillingness(), f.meetingParticipationDesire()});
+		}
+		return rows;
+	}
+
+	// 이력 getTrendRows 행 형식 (설문조사 ID + 완료 여부, 변경 시각, 사망일, 애도 단계, 상담 의향, 모임 참석 희망)
+	private static List<Object[]> historyRows(Object... surveyIdsAndFacts) {
+		List<Object[]> rows = new ArrayList<>();
+		for (int i = 0; i < surveyIdsAndFacts.length; i += 2) {
+			SurveyTrendFacts f = (SurveyTrendFacts) surveyIdsAndFacts[i + 1];
+			rows.add(new Object[]{surveyIdsAndFacts[i], f.completed(), f.updatedAt(), f.deathDate(), f.griefStage(),
+					f.counselingWillingness(), f.meetingParticipationDesire()});
+		}
+		return rows;
+	}
+}